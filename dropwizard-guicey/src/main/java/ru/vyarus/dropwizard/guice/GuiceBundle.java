@@ -22,6 +22,7 @@ import ru.vyarus.dropwizard.guice.debug.GuiceAopDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.GuiceBindingsDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.GuiceProvisionDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.JerseyConfigDiagnostic;
+import ru.vyarus.dropwizard.guice.debug.JerseyMetricsDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.LifecycleDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.SharedStateDiagnostic;
 import ru.vyarus.dropwizard.guice.debug.StartupTimeDiagnostic;
@@ -1089,6 +1090,20 @@ public final class GuiceBundle implements ConfiguredBundle<Configuration> {
             return listen(new JerseyConfigDiagnostic());
         }
 
+        /**
+         * Collects runtime metrics for guicey-installed resource methods, filters and interceptors and prints
+         * them on application shutdown. Enables
+         * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#CollectJerseyRequestMetrics} option
+         * (the option could be enabled directly to collect metrics without report).
+         *
+         * @return builder instance for chained calls
+         * @see ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics
+         */
+        public Builder printJerseyRequestMetrics() {
+            option(InstallersOptions.CollectJerseyRequestMetrics, true);
+            return listen(new JerseyMetricsDiagnostic());
+        }
+
         /**
          * Prints detailed application startup (and shutdown) times. Useful for startup slowness investigations and
          * initialization order validation (executed hooks and budles order).
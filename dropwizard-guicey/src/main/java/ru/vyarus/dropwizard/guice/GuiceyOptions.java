@@ -48,6 +48,60 @@ public enum GuiceyOptions implements Option {
      */
     ScanProtectedClasses(Boolean.class, false),
 
+    /**
+     * Use pre-built classpath scan index
+     * ({@link ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex#LOCATION}), when available, instead
+     * of jars and directories traversal. Index is used only for packages with indexed classes (other packages are
+     * scanned as usual). Disabled by default.
+     * <p>
+     * IMPORTANT: all index files in classpath are merged, and package with at least one indexed class is not
+     * traversed at all. So index must cover all classes of scanned packages (e.g. index from library jar for
+     * sub package would hide not indexed classes of application package).
+     *
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex
+     */
+    UseScanIndex(Boolean.class, false),
+
+    /**
+     * Perform classpath scan in parallel: each package, jar and directory (sub directory) is processed in separate
+     * fork-join task. Found classes order is the same as for sequential scan, so extensions order would not change.
+     * Disabled by default.
+     * <p>
+     * Option might be useful for large scan scope (many packages, spread across multiple jars). For small
+     * applications sequential scan would be faster.
+     * <p>
+     * Scan time for each package could be seen with
+     * {@link ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo#getPackageScanTimes()}.
+     */
+    ParallelClasspathScan(Boolean.class, false),
+
+    /**
+     * Persistent startup cache file path. When specified, classpath scan result and extensions recognition
+     * (extension to installer mapping) are stored in file and re-used on next startup (if classpath and scan
+     * configuration did not change). Disabled by default.
+     * <p>
+     * Cache is bound to classpath fingerprint (all classpath entries size and modification time), so
+     * any application change invalidates cache. Cache file must not be located inside application classpath
+     * (otherwise it would invalidate itself). Cache is used only for plain classpath launches (when context
+     * class loader is the system class loader).
+     * <p>
+     * Option might be useful to speed up startup for large applications (e.g. for autoscaling).
+     *
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanCache
+     */
+    StartupCache(String.class, null),
+
+    /**
+     * Maximum threads count for parallel guicey bundles run. Only bundles, implementing
+     * {@link ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelGuiceyBundle}, are run concurrently (other
+     * bundles are run sequentially, as usual). By default, 1 (all bundles are run sequentially).
+     * <p>
+     * Option might be useful when bundles perform slow IO in run method: startup time would depend on the
+     * slowest bundles dependencies chain instead of the sum of all bundles run times. Bundles run critical path
+     * is shown in startup report ({@link GuiceBundle.Builder#printStartupTime()}).
+     */
+    BundlesRunThreads(Integer.class, 1),
+
     /**
      * Enables commands search in classpath and dynamic installation. Requires auto scan mode.
      * Disabled by default.
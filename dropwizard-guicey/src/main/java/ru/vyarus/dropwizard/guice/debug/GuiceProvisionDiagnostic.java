@@ -4,6 +4,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import com.google.inject.AbstractModule;
 import com.google.inject.Binding;
 import com.google.inject.matcher.Matchers;
@@ -31,6 +32,10 @@ import java.time.Duration;
  * The report is sorted by overall spent time: if guice bean (in prototype) scope was created several times - the summ
  * of all creations is counted.
  * <p>
+ * Provisions from other threads are also recorded (e.g. background eager singletons,
+ * {@code @EagerSingleton(background = true)}), but startup report could be printed before background
+ * beans creation.
+ * <p>
  * The report also could be used to measure runtime creations:
  * <pre><code>
  *     // false to avoid startup report
@@ -52,7 +57,8 @@ import java.time.Duration;
  */
 public class GuiceProvisionDiagnostic implements GuiceyBundle {
     private final Logger logger = LoggerFactory.getLogger(GuiceProvisionDiagnostic.class);
-    private final ListMultimap<Binding<?>, Duration> data = LinkedListMultimap.create();
+    private final ListMultimap<Binding<?>, Duration> data =
+            Multimaps.synchronizedListMultimap(LinkedListMultimap.create());
 
     private final boolean printStartupReport;
 
@@ -87,14 +93,16 @@ public class GuiceProvisionDiagnostic implements GuiceyBundle {
      * @return recorded provision data
      */
     public ListMultimap<Binding<?>, Duration> getRecordedData() {
-        return LinkedListMultimap.create(data);
+        synchronized (data) {
+            return LinkedListMultimap.create(data);
+        }
     }
 
     /**
      * @return generated report for collected data
      */
     public String renderReport() {
-        return new GuiceProvisionRenderer().render(LinkedListMultimap.create(data));
+        return new GuiceProvisionRenderer().render(getRecordedData());
     }
 
     /**
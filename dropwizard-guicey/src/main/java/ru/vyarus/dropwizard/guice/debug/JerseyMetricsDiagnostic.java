@@ -0,0 +1,32 @@
+package ru.vyarus.dropwizard.guice.debug;
+
+import com.google.inject.Key;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.debug.report.jersey.JerseyMetricsRenderer;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
+import ru.vyarus.dropwizard.guice.module.lifecycle.UniqueGuiceyLifecycleListener;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationShutdownEvent;
+
+/**
+ * Jersey request metrics report, printed on application shutdown (collected for the entire application life).
+ * Requires enabled {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#CollectJerseyRequestMetrics}
+ * option (metrics are not collected otherwise).
+ * <p>
+ * If multiple listeners registered, only first registered will be actually used (allow safe multiple registrations).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class JerseyMetricsDiagnostic extends UniqueGuiceyLifecycleListener {
+    private final Logger logger = LoggerFactory.getLogger(JerseyMetricsDiagnostic.class);
+
+    @Override
+    protected void applicationShutdown(final ApplicationShutdownEvent event) {
+        // binding would be absent if metrics collection disabled
+        if (event.getInjector().getExistingBinding(Key.get(JerseyRequestMetrics.class)) != null) {
+            final JerseyRequestMetrics metrics = event.getInjector().getInstance(JerseyRequestMetrics.class);
+            logger.info("Jersey request metrics = {}", new JerseyMetricsRenderer(metrics).renderReport(null));
+        }
+    }
+}
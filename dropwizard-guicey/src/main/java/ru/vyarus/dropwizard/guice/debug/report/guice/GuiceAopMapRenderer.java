@@ -1,14 +1,11 @@
 package ru.vyarus.dropwizard.guice.debug.report.guice;
-// CHECKSTYLE:OFF
 
-import com.google.inject.Module;
-// CHECKSTYLE:ON
 import com.google.inject.*;
 import com.google.inject.spi.ConstructorBinding;
 import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import com.google.inject.spi.InterceptorBinding;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dropwizard.core.setup.Environment;
 import org.aopalliance.intercept.MethodInterceptor;
 import ru.vyarus.dropwizard.guice.debug.report.ReportRenderer;
 import ru.vyarus.dropwizard.guice.debug.report.guice.model.ModuleDeclaration;
@@ -17,7 +14,7 @@ import ru.vyarus.dropwizard.guice.debug.report.guice.util.GuiceModelUtils;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
-import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
@@ -36,7 +33,7 @@ import java.util.stream.Collectors;
 public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
 
     private final Injector injector;
-    private final List<Module> modules;
+    private final ModuleElementsSnapshot elements;
 
     /**
      * Create renderer.
@@ -46,10 +43,8 @@ public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
     public GuiceAopMapRenderer(final Injector injector) {
         this.injector = injector;
         final GuiceyConfigurationInfo info = injector.getInstance(GuiceyConfigurationInfo.class);
-        // all modules (in case if overriding module declares aop)
-        this.modules = info.getModuleIds().stream()
-                .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
-                .collect(Collectors.toList());
+        // elements recorded once and shared between reports
+        this.elements = ModuleElementsSnapshot.lookup(injector.getInstance(Environment.class), info);
     }
 
     @Override
@@ -57,7 +52,8 @@ public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
         final StringBuilder res = new StringBuilder();
 
         // AOP declarations
-        final List<Element> declared = Elements.getElements(Stage.TOOL, modules).stream()
+        // all modules (in case if overriding module declares aop)
+        final List<Element> declared = elements.getAllElements().stream()
                 .filter(it -> it instanceof InterceptorBinding)
                 .collect(Collectors.toList());
 
@@ -5,9 +5,9 @@ import com.google.inject.Binding;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
-import com.google.inject.Stage;
-import com.google.inject.spi.Elements;
+import com.google.inject.spi.Element;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.debug.report.ReportRenderer;
 import ru.vyarus.dropwizard.guice.debug.report.guice.model.BindingDeclaration;
@@ -19,8 +19,8 @@ import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
+import ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
-import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
 import java.util.ArrayList;
@@ -66,8 +66,7 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
     private static final String REMOVED = "REMOVED";
 
     private final Injector injector;
-    private final List<Module> modules;
-    private final List<Module> overridden;
+    private final ModuleElementsSnapshot elements;
     private final List<Class<Object>> extensions;
     private final List<Class<Object>> disabled;
     private final List<Class<Module>> modulesDisabled;
@@ -81,12 +80,8 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
     public GuiceBindingsRenderer(final Injector injector) {
         this.injector = injector;
         final GuiceyConfigurationInfo info = injector.getInstance(GuiceyConfigurationInfo.class);
-        this.modules = info.getNormalModuleIds().stream()
-                .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
-                .collect(Collectors.toList());
-        this.overridden = info.getOverridingModuleIds().stream()
-                .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
-                .collect(Collectors.toList());
+        // elements recorded once and shared between reports
+        this.elements = ModuleElementsSnapshot.lookup(injector.getInstance(Environment.class), info);
         // important to highlight all extensions, including disabled
         this.extensions = ItemId.typesOnly(info.getData().getItems(ConfigItem.Extension));
         this.disabled = info.getExtensionsDisabled();
@@ -99,7 +94,7 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
     public String renderReport(final GuiceConfig config) {
         // analyze modules
         final List<ModuleDeclaration> moduleItems = filter(
-                GuiceModelParser.parse(injector, Elements.getElements(Stage.TOOL, modules)), config);
+                GuiceModelParser.parse(injector, elements.getNormalElements()), config);
         final Map<Key, BindingDeclaration> moduleBindings = GuiceModelUtils.index(moduleItems);
 
         // don't show extensions if no guice module analysis actually performed
@@ -108,9 +103,9 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
         }
 
         // analyze overrides
-        final List<ModuleDeclaration> overrideItems = filter(overridden.isEmpty()
-                ? Collections.emptyList() : GuiceModelParser.parse(injector,
-                Elements.getElements(Stage.TOOL, overridden)), config);
+        final List<Element> overrides = elements.getOverridingElements();
+        final List<ModuleDeclaration> overrideItems = filter(overrides.isEmpty()
+                ? Collections.emptyList() : GuiceModelParser.parse(injector, overrides), config);
         final Map<Key, BindingDeclaration> overrideBindings = GuiceModelUtils.index(overrideItems);
 
         markOverrides(moduleBindings, overrideBindings);
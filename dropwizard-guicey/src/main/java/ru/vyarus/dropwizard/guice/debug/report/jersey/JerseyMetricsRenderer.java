@@ -0,0 +1,88 @@
+package ru.vyarus.dropwizard.guice.debug.report.jersey;
+
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import ru.vyarus.dropwizard.guice.debug.report.ReportRenderer;
+import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.ProviderMetric;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.ResourceMethodMetric;
+import ru.vyarus.dropwizard.guice.url.model.ResourceMethodInfo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.TAB;
+
+/**
+ * Renders collected request metrics for guicey-installed jersey extensions: resource methods execution times,
+ * filters phases times and filters (interceptors) calls count. Resource methods sorted by path.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class JerseyMetricsRenderer implements ReportRenderer<Void> {
+
+    private final JerseyRequestMetrics metrics;
+
+    /**
+     * Create renderer.
+     *
+     * @param metrics collected metrics
+     */
+    public JerseyMetricsRenderer(final JerseyRequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String renderReport(final Void config) {
+        final StringBuilder res = new StringBuilder(NEWLINE);
+        final List<ResourceMethodMetric> methods = metrics.getResourceMethods().stream()
+                .sorted(Comparator.comparing((ResourceMethodMetric it) -> it.getInfo().getFullPath())
+                        .thenComparing(it -> it.getInfo().getHttpMethod()))
+                .collect(Collectors.toList());
+        if (!methods.isEmpty()) {
+            res.append(NEWLINE).append(TAB).append("Resources").append(NEWLINE);
+            for (ResourceMethodMetric metric : methods) {
+                final ResourceMethodInfo info = metric.getInfo();
+                res.append(TAB).append(TAB).append(String.format("%-7s %-40s %-45s %s%n",
+                        info.getHttpMethod(), info.getFullPath(),
+                        RenderUtils.getClassName(metric.getType()) + "#" + info.getMethod().getName(),
+                        renderTimer(metric.getTimer())));
+            }
+        }
+
+        res.append(NEWLINE).append(TAB).append("Filters").append(NEWLINE);
+        res.append(TAB).append(TAB).append(String.format("%-93s %s%n", "request",
+                renderTimer(metrics.getRequestFiltersTimer())));
+        res.append(TAB).append(TAB).append(String.format("%-93s %s%n", "response",
+                renderTimer(metrics.getResponseFiltersTimer())));
+
+        final List<ProviderMetric> providers = metrics.getProviders().stream()
+                .sorted(Comparator.comparing(it -> it.getType().getName()))
+                .collect(Collectors.toList());
+        if (!providers.isEmpty()) {
+            res.append(NEWLINE).append(TAB).append("Calls").append(NEWLINE);
+            for (ProviderMetric metric : providers) {
+                res.append(TAB).append(TAB).append(String.format("%-93s calls=%s%n",
+                        RenderUtils.getClassName(metric.getType()) + " " + RenderUtils.brackets(metric.getExtensions()
+                                .stream().map(Class::getSimpleName).collect(Collectors.joining(", "))),
+                        metric.getCalls().getCount()));
+            }
+        }
+        return res.toString();
+    }
+
+    private String renderTimer(final Timer timer) {
+        final Snapshot snapshot = timer.getSnapshot();
+        return String.format("count=%s, mean=%s, p99=%s, max=%s", timer.getCount(),
+                formatNanos(snapshot.getMean()), formatNanos(snapshot.get99thPercentile()),
+                formatNanos(snapshot.getMax()));
+    }
+
+    private String formatNanos(final double nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000);
+    }
+}
@@ -5,6 +5,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import org.eclipse.jetty.util.component.LifeCycle;
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ManagedGroup;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -16,6 +17,8 @@ import java.util.List;
  * Managed objects tracker for startup time report. Replaces managed objects list inside
  * {@link io.dropwizard.lifecycle.setup.LifecycleEnvironment} to wrap existing and future managed (and lifecycle)
  * objects (to be able to track start and stop executions).
+ * <p>
+ * For parallel managed objects group ({@link ManagedGroup}) each member time is recorded (as "parallel").
  *
  * @author Vyacheslav Rusakov
  * @since 10.03.2025
@@ -97,27 +100,44 @@ public class ManagedTracker extends ArrayList<LifeCycle> {
         private final LifeCycle object;
         private final boolean managed;
         private final Class<?> type;
+        private final ManagedGroup group;
 
         LifeCycleTracker(final LifeCycle object) {
             this.object = object;
             managed = object instanceof JettyManaged;
             type = managed ? ((JettyManaged) object).getManaged().getClass() : object.getClass();
+            group = managed && ((JettyManaged) object).getManaged() instanceof ManagedGroup
+                    ? (ManagedGroup) ((JettyManaged) object).getManaged() : null;
         }
 
         @Override
         public void start() throws Exception {
             final Stopwatch timer = Stopwatch.createStarted();
             object.start();
-            start.getManagedTimes().put(type, timer.stop().elapsed());
-            start.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            if (group == null) {
+                start.getManagedTimes().put(type, timer.stop().elapsed());
+                start.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            } else {
+                group.getStartTimes().forEach((member, time) -> {
+                    start.getManagedTimes().put(member, time);
+                    start.getManagedTypes().put(member, "parallel");
+                });
+            }
         }
 
         @Override
         public void stop() throws Exception {
             final Stopwatch timer = Stopwatch.createStarted();
             object.stop();
-            stop.getManagedTimes().put(type, timer.stop().elapsed());
-            stop.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            if (group == null) {
+                stop.getManagedTimes().put(type, timer.stop().elapsed());
+                stop.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            } else {
+                group.getStopTimes().forEach((member, time) -> {
+                    stop.getManagedTimes().put(member, time);
+                    stop.getManagedTypes().put(member, "parallel");
+                });
+            }
         }
 
         @Override
@@ -18,7 +18,7 @@ public class ShutdownTimeInfo {
 
     private Duration stopTime;
     private final Map<Class, Duration> managedTimes = new LinkedHashMap<>();
-    // managed or lifecycle
+    // managed, lifecycle or parallel (parallel managed group member)
     private final Map<Class, String> managedTypes = new LinkedHashMap<>();
     private Duration listenersTime;
     private final List<Class> events = new ArrayList<>();
@@ -54,7 +54,7 @@ public class StartupTimeInfo {
     private Duration lifecycleTime;
     // have to separate - otherwise can't differentiate them
     private final Map<Class, Duration> managedTimes = new LinkedHashMap<>();
-    // managed or lifecycle
+    // managed, lifecycle or parallel (parallel managed group member)
     private final Map<Class, String> managedTypes = new LinkedHashMap<>();
 
     private final List<Class> initEvents = new ArrayList<>();
@@ -115,10 +115,13 @@ public class StartupTimeRenderer {
                                 final Duration duration,
                                 final StartupTimeInfo info,
                                 final StringBuilder res) {
+        // available only for parallel bundles run
+        final Duration criticalPath = info.getStats().getBundlesRunCriticalPath();
         // same as info.getStats().duration(Stat.RunTime) but slightly more accurate
         res.append(line(shift, GuiceBundle.class.getSimpleName(), duration))
                 .append(line(shift + 1, "Configuration analysis", info.getStats().duration(Stat.ConfigurationAnalysis)))
-                .append(line(shift + 1, "Guicey bundles run", info.getStats().duration(Stat.GuiceyBundleRunTime)));
+                .append(line(shift + 1, "Guicey bundles run", null, info.getStats().duration(Stat.GuiceyBundleRunTime),
+                        criticalPath == null ? null : " (critical path " + PrintUtils.ms(criticalPath) + ")"));
 
         // here order would be correct because there is no transitive bundles installation
         info.getStats().getDetailedStats(DetailStat.BundleRun).forEach((type, time) ->
@@ -8,6 +8,10 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.Filters;
 import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
+import ru.vyarus.dropwizard.guice.test.util.PrintUtils;
+
+import java.time.Duration;
+import java.util.Map;
 
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*;
 import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
@@ -74,6 +78,17 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                     scan / percent, info.getStats().humanTime(ScanTime));
             final int classes = info.getStats().count(ScanClassesCount);
             node.child("scanned %s classes", classes);
+            if (info.getStats().count(ScanFromCacheCount) > 0) {
+                node.child("loaded from startup cache");
+            }
+            final int indexed = info.getStats().count(ScanIndexedPackagesCount);
+            if (indexed > 0) {
+                node.child("%s packages resolved from scan index", indexed);
+            }
+            final Map<String, Duration> packages = info.getStats().getPackageScanTimes();
+            if (packages.size() > 1) {
+                packages.forEach((pkg, time) -> node.child("%s scanned in %s", pkg, PrintUtils.ms(time)));
+            }
             final int recognized = info.getData().getItems(Filters.fromScan()).size();
             node.child("recognized %s classes (%.2g%% of scanned)",
                     recognized, recognized / (classes / 100f));
@@ -136,6 +151,12 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                     // -1 because guicey bootstrap module is ignored
                     info.getStats().count(BindingsCount), info.getNormalModules().size() - 1,
                     info.getStats().humanTime(BindingsResolutionTime));
+            final int reused = info.getStats().count(BindingsReuseCount);
+            if (reused > 0) {
+                // each reuse avoids repeated user modules recording by diagnostic reports
+                node.child("elements reused %s times by reports (saved %s)", reused,
+                        PrintUtils.ms(info.getStats().duration(BindingsResolutionTime).multipliedBy(reused)));
+            }
             final int found = info.getData().getItems(ConfigItem.Extension, Filters.fromBinding()).size();
             node.child("%s extensions detected from %s acceptable bindings", found, bindings);
 
@@ -169,6 +190,10 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                             info.getStats().count(ScanClassesCount)
                                     + info.getStats().count(AnalyzedBindingsCount) + manual,
                             info.getStats().humanTime(ExtensionsRecognitionTime));
+                    final int cached = info.getStats().count(CachedRecognitionCount);
+                    if (cached > 0) {
+                        node.child("%s classes recognized from startup cache", cached);
+                    }
                 }
             }
         }
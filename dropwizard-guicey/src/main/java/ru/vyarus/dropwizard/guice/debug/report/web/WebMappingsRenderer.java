@@ -4,11 +4,8 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Binding;
-import com.google.inject.Module;
-import com.google.inject.Stage;
 import com.google.inject.servlet.UriPatternType;
 import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.core.setup.Environment;
@@ -24,13 +21,12 @@ import ru.vyarus.dropwizard.guice.debug.report.web.util.ServletVisitor;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
-import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.jersey.GuiceWebModule;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
 
@@ -49,7 +45,7 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
     private static final String IDEM = "--\"--";
 
     private final Environment environment;
-    private final List<Module> modules;
+    private final ModuleElementsSnapshot elements;
 
     /**
      * Create renderer.
@@ -60,10 +56,8 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
     public WebMappingsRenderer(final Environment environment,
                                final GuiceyConfigurationInfo info) {
         this.environment = environment;
-        // lookup through all modules
-        this.modules = info.getModuleIds().stream()
-                .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
-                .collect(Collectors.toList());
+        // elements recorded once and shared between reports
+        this.elements = ModuleElementsSnapshot.lookup(environment, info);
     }
 
     @Override
@@ -210,7 +204,8 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
         final List<String> servlets = new ArrayList<>();
         final List<String> filters = new ArrayList<>();
 
-        for (Element element : Elements.getElements(Stage.TOOL, modules)) {
+        // lookup through all modules
+        for (Element element : elements.getAllElements()) {
             if (!(element instanceof Binding)) {
                 continue;
             }
@@ -12,27 +12,35 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.option.WithOptions;
 import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanCache;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.InstanceUtils;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ParallelClasspathScan;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanPackages;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanProtectedClasses;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.SearchCommands;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.StartupCache;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseCoreInstallers;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseScanIndex;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleResolutionTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.CachedRecognitionCount;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigurationTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ExtensionsRecognitionTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyBundleInitTime;
@@ -68,6 +76,7 @@ public class GuiceyInitializer {
     private final Bootstrap bootstrap;
     private final ConfigurationContext context;
     private final ClasspathScanner scanner;
+    private final ScanCache cache;
 
     /**
      * Create initializer.
@@ -89,10 +98,17 @@ public class GuiceyInitializer {
         if (packages.length == 1 && APP_PKG.equals(packages[0])) {
             packages[0] = bootstrap.getApplication().getClass().getPackage().getName();
         }
+        final boolean useIndex = context.option(UseScanIndex);
+        final String cacheFile = cacheFile(context.option(StartupCache));
+        this.cache = packages.length > 0 && cacheFile != null
+                ? ScanCache.load(Paths.get(cacheFile), ScanCache.fingerprint(
+                Arrays.stream(packages).sorted().collect(Collectors.joining(",")), acceptProtected, useIndex))
+                : null;
         // classpath scan performed immediately (if required)
         this.scanner = packages.length > 0
                 ? new ClasspathScanner(
-                Sets.newHashSet(Arrays.asList(packages)), acceptProtected, context.stat()) : null;
+                Sets.newHashSet(Arrays.asList(packages)), acceptProtected, useIndex,
+                context.option(ParallelClasspathScan), cache, context.stat()) : null;
     }
 
     /**
@@ -151,12 +167,18 @@ public class GuiceyInitializer {
         final ExtensionsHolder holder = context.getExtensionsHolder();
         if (scanner != null) {
             final List<Class<?>> extensions = new ArrayList<>();
+            if (cache != null) {
+                // installer options could change recognition result
+                cache.useInstallers(holder.getInstallers(), Arrays.stream(InstallersOptions.values())
+                        .map(it -> it.name() + "=" + context.option(it)).collect(Collectors.joining(",")));
+            }
             scanner.scan(type -> {
                 // detect by installer - if installer found for sure it is an extension
-                if (context.isAcceptableAutoScanClass(type) && holder.acceptScanCandidate(type)) {
+                if (context.isAcceptableAutoScanClass(type) && holder.acceptScanCandidate(type, cache)) {
                     extensions.add(type);
                 }
             });
+            context.stat().count(CachedRecognitionCount, holder.getCachedRecognitions());
             // fire event with detected extensions, but they are not registered yet
             context.lifecycle().classpathExtensionsResolved(extensions);
         }
@@ -171,6 +193,9 @@ public class GuiceyInitializer {
         if (scanner != null) {
             scanner.cleanup();
         }
+        if (cache != null) {
+            cache.save();
+        }
         context.lifecycle().initialized();
 
         context.stat().stopTimer(ConfigurationTime);
@@ -229,5 +254,20 @@ public class GuiceyInitializer {
         return installers;
     }
 
+    /**
+     * Startup cache could be used only for plain classpath launches (see {@link ScanCache#isApplicable()}).
+     *
+     * @param file configured cache file
+     * @return cache file or null if cache is not configured or could not be used
+     */
+    private String cacheFile(final String file) {
+        if (file != null && !ScanCache.isApplicable()) {
+            logger.warn("Guicey startup cache disabled: classes are loaded with custom class loader, "
+                    + "so classpath changes could not be tracked");
+            return null;
+        }
+        return file;
+    }
+
 
 }
@@ -159,7 +159,7 @@ public final class ConfigurationContext {
      * Guicey lifecycle listeners support.
      */
     private final LifecycleSupport lifecycleTracker = new LifecycleSupport(tracker, readOnlyOptions,
-            sharedState, tracker::verifyTimersDone);
+            sharedState, this::startupCompleted);
 
     /**
      * Create a context.
@@ -990,6 +990,18 @@ public final class ConfigurationContext {
         return currentScope == null ? ConfigScope.Application.getKey() : currentScope;
     }
 
+    /**
+     * Called after application startup (after startup reports rendering).
+     */
+    private void startupCompleted() {
+        tracker.verifyTimersDone();
+        // startup reports already rendered: recorded modules elements are not needed anymore
+        final ModuleElementsSnapshot snapshot = sharedState.get(ModuleElementsSnapshot.class);
+        if (snapshot != null) {
+            snapshot.release();
+        }
+    }
+
     /**
      * Disable predicate could be registered after some items registration and to make sure that predicate
      * affects all these items - apply to all currenlty registered items.
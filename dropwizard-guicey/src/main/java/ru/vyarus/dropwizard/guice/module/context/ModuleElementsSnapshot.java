@@ -0,0 +1,212 @@
+package ru.vyarus.dropwizard.guice.module.context;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import io.dropwizard.core.setup.Environment;
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
+import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
+import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Guice modules elements, shared between diagnostic reports. Guice SPI elements recording executes
+ * {@code configure()} method of each module, so it is important to do it as rare as possible.
+ * <p>
+ * User modules elements are recorded during modules analysis (see
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeGuiceModules}): snapshot holds unmodified copy of them
+ * (including bindings, removed later for disabled extensions and modules). Guicey bootstrap module and overriding
+ * modules are recorded on first request (only if some report requires them). When modules analysis is disabled or
+ * could not be reused (private modules analysis modifies private modules elements), all modules are recorded
+ * on first request. In any case, modules elements are recorded only once for all reports.
+ * <p>
+ * Snapshot is available in shared state: {@code SharedConfigurationState.lookup(environment,
+ * ModuleElementsSnapshot.class)}. Each reuse of elements, recorded by modules analysis, is counted with
+ * {@link Stat#BindingsReuseCount} (each reuse saves {@link Stat#BindingsResolutionTime}).
+ * <p>
+ * Recorded elements are released after application startup (when startup reports are already rendered) to not
+ * keep them in memory for the entire application lifetime. After that, elements are recorded on each request.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ModuleElementsSnapshot {
+
+    private final List<Module> normalModules;
+    private final List<Module> overridingModules;
+    private final StatsTracker stats;
+
+    private List<Module> analyzedModules;
+    private List<Element> analyzedElements;
+    private Duration analysisTime = Duration.ZERO;
+
+    private List<Element> normalElements;
+    private List<Element> overridingElements;
+    private int reuses;
+    private boolean released;
+
+    /**
+     * Create snapshot without pre-recorded elements (everything would be recorded on demand).
+     *
+     * @param normalModules     normal modules (including guicey bootstrap module)
+     * @param overridingModules overriding modules
+     */
+    public ModuleElementsSnapshot(final List<Module> normalModules, final List<Module> overridingModules) {
+        this(normalModules, overridingModules, null);
+    }
+
+    /**
+     * Create snapshot.
+     *
+     * @param normalModules     normal modules (including guicey bootstrap module)
+     * @param overridingModules overriding modules
+     * @param stats             stats tracker to count reuses or null
+     */
+    public ModuleElementsSnapshot(final List<Module> normalModules,
+                                  final List<Module> overridingModules,
+                                  final StatsTracker stats) {
+        this.normalModules = ImmutableList.copyOf(normalModules);
+        this.overridingModules = ImmutableList.copyOf(overridingModules);
+        this.stats = stats;
+    }
+
+    /**
+     * Register elements, recorded during modules analysis. Must be called before bindings filtering (snapshot
+     * must contain all original elements).
+     *
+     * @param modules  analyzed modules (normal modules without guicey bootstrap module)
+     * @param elements recorded elements
+     * @param time     recording time
+     */
+    public synchronized void analyzed(final List<Module> modules, final List<Element> elements, final Duration time) {
+        this.analyzedModules = ImmutableList.copyOf(modules);
+        this.analyzedElements = ImmutableList.copyOf(elements);
+        this.analysisTime = time;
+    }
+
+    /**
+     * @return elements of normal modules (including guicey bootstrap module)
+     */
+    public synchronized List<Element> getNormalElements() {
+        if (analyzedElements != null) {
+            reuses++;
+            if (stats != null) {
+                stats.count(Stat.BindingsReuseCount, 1);
+            }
+        }
+        if (released) {
+            return record(normalModules);
+        }
+        if (normalElements == null) {
+            if (analyzedElements == null) {
+                normalElements = record(normalModules);
+            } else {
+                final List<Module> remaining = new ArrayList<>(normalModules);
+                remaining.removeAll(analyzedModules);
+                normalElements = ImmutableList.<Element>builder()
+                        .addAll(analyzedElements)
+                        .addAll(record(remaining))
+                        .build();
+            }
+        }
+        return normalElements;
+    }
+
+    /**
+     * @return elements of overriding modules (empty if no overriding modules registered)
+     */
+    public synchronized List<Element> getOverridingElements() {
+        if (released) {
+            return record(overridingModules);
+        }
+        if (overridingElements == null) {
+            overridingElements = record(overridingModules);
+        }
+        return overridingElements;
+    }
+
+    /**
+     * @return elements of all modules (normal and overriding)
+     */
+    public List<Element> getAllElements() {
+        return ImmutableList.<Element>builder()
+                .addAll(getNormalElements())
+                .addAll(getOverridingElements())
+                .build();
+    }
+
+    /**
+     * Release recorded elements. Called by guicey after application startup. After release, elements would be
+     * recorded on each request (not cached).
+     */
+    public synchronized void release() {
+        released = true;
+        analyzedModules = null;
+        analyzedElements = null;
+        normalElements = null;
+        overridingElements = null;
+    }
+
+    /**
+     * @return true if recorded elements were released
+     */
+    public synchronized boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * @return true if elements, recorded during modules analysis, are available for reuse
+     */
+    public synchronized boolean isAnalyzedElementsAvailable() {
+        return analyzedElements != null;
+    }
+
+    /**
+     * @return count of analysis elements reuses (avoided modules recordings)
+     */
+    public synchronized int getReusesCount() {
+        return reuses;
+    }
+
+    /**
+     * @return approximate modules recording time saved by elements reuse
+     */
+    public synchronized Duration getSavedTime() {
+        return analysisTime.multipliedBy(reuses);
+    }
+
+    /**
+     * Resolve snapshot, shared by guicey, or create new snapshot (when shared snapshot not available).
+     *
+     * @param environment environment
+     * @param info        guicey configuration info
+     * @return modules elements snapshot
+     */
+    public static ModuleElementsSnapshot lookup(final Environment environment, final GuiceyConfigurationInfo info) {
+        return SharedConfigurationState.lookup(environment, ModuleElementsSnapshot.class)
+                .orElseGet(() -> new ModuleElementsSnapshot(
+                        getModules(info, info.getNormalModuleIds()),
+                        getModules(info, info.getOverridingModuleIds())));
+    }
+
+    private static List<Module> getModules(final GuiceyConfigurationInfo info, final List<ItemId<Module>> ids) {
+        return ids.stream()
+                .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
+                .collect(Collectors.toList());
+    }
+
+    private List<Element> record(final List<Module> modules) {
+        if (modules.isEmpty()) {
+            return ImmutableList.of();
+        }
+        return ImmutableList.copyOf(Elements.getElements(Stage.TOOL, modules));
+    }
+}
@@ -46,6 +46,17 @@ public enum Stat {
      * Count of classes loaded during classpath scan.
      */
     ScanClassesCount(false),
+    /**
+     * Count of packages resolved from pre-built scan index
+     * ({@link ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex}) instead of classpath traversal.
+     */
+    ScanIndexedPackagesCount(false),
+    /**
+     * Indicates classpath scan result loaded from startup cache (1 when cache used, 0 otherwise).
+     *
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#StartupCache
+     */
+    ScanFromCacheCount(false),
     /**
      * Bundles resolution, creation, initialization and run time (combined from both configuration and run phases).
      * Also includes dropwizard bundles initialization time (for bundles registered through guicey api).
@@ -79,6 +90,12 @@ public enum Stat {
      * before initializations). Part of {@link #InstallersTime}.
      */
     ExtensionsRecognitionTime(true),
+    /**
+     * Count of scanned classes with extension recognition result (installer) taken from startup cache.
+     *
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#StartupCache
+     */
+    CachedRecognitionCount(false),
     /**
      * Guicey listeners execution time.
      */
@@ -131,6 +148,12 @@ public enum Stat {
      * ({@link #InjectorCreationTime}).
      */
     BindingsResolutionTime(true),
+    /**
+     * Count of user modules elements reuses by diagnostic reports (elements, recorded during modules analysis, are
+     * used instead of repeated modules recording). Each reuse saves {@link #BindingsResolutionTime}.
+     * See {@link ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot}.
+     */
+    BindingsReuseCount(false),
 
     /**
      * Time of parsed bindings analysis. Part of {@link #ExtensionsRecognitionTime}.
@@ -78,6 +78,28 @@ public final class StatsInfo {
         return value == null ? 0 : value;
     }
 
+    /**
+     * Classpath scan time per package (in scan order). Note that for parallel scan
+     * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelClasspathScan}), sum of package times could be
+     * greater than overall {@link Stat#ScanTime}.
+     *
+     * @return package scan times or empty map if classpath scan is not enabled
+     */
+    public Map<String, Duration> getPackageScanTimes() {
+        return tracker.getScanTimes();
+    }
+
+    /**
+     * Guicey bundles run critical path: the slowest chain of dependent bundles (including all not parallel bundles).
+     * Available only for parallel bundles run ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#BundlesRunThreads}).
+     * Per-bundle run time is available with {@link #getDetailedStats(DetailStat)} for {@link DetailStat#BundleRun}.
+     *
+     * @return bundles run critical path or null if bundles were not run in parallel
+     */
+    public Duration getBundlesRunCriticalPath() {
+        return tracker.getBundlesRunCriticalPath();
+    }
+
     /**
      * @return guice injector creation logs (intercepted)
      */
@@ -6,6 +6,7 @@ import com.google.common.collect.Maps;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +28,9 @@ public final class StatsTracker {
     private final Map<Stat, Integer> counters = Maps.newEnumMap(Stat.class);
     private final GuiceStatsTracker guiceStats = new GuiceStatsTracker();
     private final Map<DetailStat, Map<Class<?>, Stopwatch>> detailStats = Maps.newEnumMap(DetailStat.class);
+    private final Map<DetailStat, Map<Class<?>, Duration>> detailTimes = Maps.newEnumMap(DetailStat.class);
+    private final Map<String, Duration> scanTimes = new LinkedHashMap<>();
+    private Duration bundlesRunCriticalPath;
 
     /**
      * Create tracker.
@@ -73,6 +77,42 @@ public final class StatsTracker {
                 .computeIfAbsent(type, aClass -> Stopwatch.createUnstarted()).start();
     }
 
+    /**
+     * Record already measured detail time (summed with {@link #detailTimer(DetailStat, Class)} measurements).
+     * Used when time is measured in different threads (stats must not be modified concurrently).
+     *
+     * @param name detail name
+     * @param type target type
+     * @param time measured time
+     */
+    public void detailTime(final DetailStat name, final Class<?> type, final Duration time) {
+        // register timer to preserve order
+        detailStats.computeIfAbsent(name, detailStat -> new LinkedHashMap<>())
+                .computeIfAbsent(type, aClass -> Stopwatch.createUnstarted());
+        detailTimes.computeIfAbsent(name, detailStat -> new HashMap<>())
+                .merge(type, time, Duration::plus);
+    }
+
+    /**
+     * Record classpath scan time for exact package (part of {@link Stat#ScanTime}). Note that for parallel scan,
+     * sum of packages scan time could be greater than overall scan time.
+     *
+     * @param pkg  scanned package
+     * @param time package scan time
+     */
+    public void scanTime(final String pkg, final Duration time) {
+        scanTimes.merge(pkg, time, Duration::plus);
+    }
+
+    /**
+     * Record guicey bundles run critical path (the slowest bundles dependencies chain) for parallel bundles run.
+     *
+     * @param time critical path time
+     */
+    public void bundlesRunCriticalPath(final Duration time) {
+        this.bundlesRunCriticalPath = time;
+    }
+
     /**
      * Inserts value for first call and sum values for consequent calls.
      *
@@ -130,11 +170,27 @@ public final class StatsTracker {
         if (details == null) {
             return Collections.emptyMap();
         }
+        final Map<Class<?>, Duration> times = detailTimes.getOrDefault(name, Collections.emptyMap());
         final Map<Class<?>, Duration> res = new LinkedHashMap<>();
-        details.forEach((type, stopwatch) -> res.put(type, stopwatch.elapsed()));
+        details.forEach((type, stopwatch) -> res.put(type,
+                stopwatch.elapsed().plus(times.getOrDefault(type, Duration.ZERO))));
         return res;
     }
 
+    /**
+     * @return packages scan time
+     */
+    public Map<String, Duration> getScanTimes() {
+        return Collections.unmodifiableMap(scanTimes);
+    }
+
+    /**
+     * @return bundles run critical path or null if bundles were not run in parallel
+     */
+    public Duration getBundlesRunCriticalPath() {
+        return bundlesRunCriticalPath;
+    }
+
     /**
      * @return collected counters map
      */
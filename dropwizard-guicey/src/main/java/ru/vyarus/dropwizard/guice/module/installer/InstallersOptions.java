@@ -97,7 +97,21 @@ public enum InstallersOptions implements Option {
      * When disabled, only extensions annotated with {@link jakarta.ws.rs.ext.Provider} would be recognized
      * (legacy guicey behaviour).
      */
-    JerseyExtensionsRecognizedByType(Boolean.class, true);
+    JerseyExtensionsRecognizedByType(Boolean.class, true),
+    /**
+     * Affects {@link ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller}.
+     * Maximum threads count used for background eager singletons creation
+     * ({@code @EagerSingleton(background = true)}).
+     */
+    BackgroundEagerSingletonsThreads(Integer.class, 4),
+    /**
+     * Affects {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller} and
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller}.
+     * When enabled, runtime metrics are collected for guicey-installed resource methods, filters and
+     * interceptors (see {@link ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics}).
+     * Disabled by default to avoid any overhead for request processing.
+     */
+    CollectJerseyRequestMetrics(Boolean.class, false);
 
     private final Class<?> type;
     private final Object value;
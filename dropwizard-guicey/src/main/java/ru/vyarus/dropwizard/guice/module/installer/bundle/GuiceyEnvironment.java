@@ -34,6 +34,9 @@ import java.util.function.Supplier;
  * environment objects.
  * <p>
  * As it is called on run phase, it does not allow to install or disable new bundles and installers.
+ * <p>
+ * Registration methods are synchronized (on dropwizard environment object) because bundles could be run
+ * concurrently (see {@link ParallelGuiceyBundle}).
  *
  * @author Vyacheslav Rusakov
  * @since 13.06.2019
@@ -195,8 +198,10 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return environment instance for chained calls
      */
     public GuiceyEnvironment register(final Object... items) {
-        for (Object item : items) {
-            environment().jersey().register(item);
+        synchronized (environment()) {
+            for (Object item : items) {
+                environment().jersey().register(item);
+            }
         }
         return this;
     }
@@ -209,8 +214,10 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return environment instance for chained calls
      */
     public GuiceyEnvironment register(final Class<?>... items) {
-        for (Class<?> item : items) {
-            environment().jersey().register(item);
+        synchronized (environment()) {
+            for (Class<?> item : items) {
+                environment().jersey().register(item);
+            }
         }
         return this;
     }
@@ -224,7 +231,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return environment instance for chained calls
      */
     public GuiceyEnvironment manage(final Managed managed) {
-        environment().lifecycle().manage(managed);
+        synchronized (environment()) {
+            environment().lifecycle().manage(managed);
+        }
         return this;
     }
 
@@ -296,7 +305,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return builder instance for chained calls
      */
     public GuiceyEnvironment listenServer(final ServerLifecycleListener listener) {
-        environment().lifecycle().addServerLifecycleListener(listener);
+        synchronized (environment()) {
+            environment().lifecycle().addServerLifecycleListener(listener);
+        }
         return this;
     }
 
@@ -316,7 +327,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return builder instance for chained calls
      */
     public GuiceyEnvironment listenJetty(final LifeCycle.Listener listener) {
-        environment().lifecycle().addEventListener(listener);
+        synchronized (environment()) {
+            environment().lifecycle().addEventListener(listener);
+        }
         return this;
     }
 
@@ -330,7 +343,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      * @return builder instance for chained calls
      */
     public GuiceyEnvironment listenJersey(final ApplicationEventListener listener) {
-        environment().jersey().register(listener);
+        synchronized (environment()) {
+            environment().jersey().register(listener);
+        }
         return this;
     }
 
@@ -368,7 +383,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
     @Override
     public GuiceyEnvironment modules(final Module... modules) {
         Preconditions.checkState(modules.length > 0, "Specify at least one module");
-        context.registerModules(modules);
+        synchronized (environment()) {
+            context.registerModules(modules);
+        }
         return this;
     }
 
@@ -377,7 +394,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public GuiceyEnvironment modulesOverride(final Module... modules) {
-        context.registerModulesOverride(modules);
+        synchronized (environment()) {
+            context.registerModulesOverride(modules);
+        }
         return this;
     }
 
@@ -386,7 +405,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public GuiceyEnvironment extensions(final Class<?>... extensionClasses) {
-        context.registerExtensions(extensionClasses);
+        synchronized (environment()) {
+            context.registerExtensions(extensionClasses);
+        }
         return this;
     }
 
@@ -395,7 +416,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public GuiceyEnvironment extensionsOptional(final Class<?>... extensionClasses) {
-        context.registerExtensionsOptional(extensionClasses);
+        synchronized (environment()) {
+            context.registerExtensionsOptional(extensionClasses);
+        }
         return this;
     }
 
@@ -404,7 +427,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public GuiceyEnvironment disableExtensions(final Class<?>... extensions) {
-        context.disableExtensions(extensions);
+        synchronized (environment()) {
+            context.disableExtensions(extensions);
+        }
         return this;
     }
 
@@ -414,7 +439,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
     @Override
     @SafeVarargs
     public final GuiceyEnvironment disableModules(final Class<? extends Module>... modules) {
-        context.disableModules(modules);
+        synchronized (environment()) {
+            context.disableModules(modules);
+        }
         return this;
     }
 
@@ -423,7 +450,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public GuiceyEnvironment listen(final GuiceyLifecycleListener... listeners) {
-        context.lifecycle().register(listeners);
+        synchronized (environment()) {
+            context.lifecycle().register(listeners);
+        }
         return this;
     }
 
@@ -432,7 +461,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public <K> GuiceyEnvironment shareState(final Class<K> key, final K value) {
-        context.getSharedState().put(key, value);
+        synchronized (environment()) {
+            context.getSharedState().put(key, value);
+        }
         return this;
     }
 
@@ -441,7 +472,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public <K> K sharedState(final Class<K> key, final Supplier<K> defaultValue) {
-        return context.getSharedState().get(key, defaultValue);
+        synchronized (environment()) {
+            return context.getSharedState().get(key, defaultValue);
+        }
     }
 
     /**
@@ -449,7 +482,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public <K> Optional<K> sharedState(final Class<K> key) {
-        return Optional.ofNullable(context.getSharedState().get(key));
+        synchronized (environment()) {
+            return Optional.ofNullable(context.getSharedState().get(key));
+        }
     }
 
     /**
@@ -457,7 +492,9 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public <K> K sharedStateOrFail(final Class<K> key, final String message, final Object... args) {
-        return context.getSharedState().getOrFail(key, message, args);
+        synchronized (environment()) {
+            return context.getSharedState().getOrFail(key, message, args);
+        }
     }
 
     /**
@@ -465,6 +502,8 @@ public class GuiceyEnvironment implements GuiceyCommonRegistration<GuiceyEnviron
      */
     @Override
     public <V> void whenSharedStateReady(final Class<V> key, final Consumer<V> action) {
-        context.getSharedState().whenReady(key, action);
+        synchronized (environment()) {
+            context.getSharedState().whenReady(key, action);
+        }
     }
 }
@@ -0,0 +1,41 @@
+package ru.vyarus.dropwizard.guice.module.installer.bundle;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Marker for guicey bundles, which could be run concurrently with other parallel bundles. Useful for bundles
+ * performing slow IO in run method (e.g. fetching remote schemas or warming clients). Parallel run must be
+ * enabled with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BundlesRunThreads} option (otherwise all bundles
+ * are run sequentially, as usual).
+ * <p>
+ * Bundles are run in initialization order. Consequent parallel bundles are run concurrently (with respect to
+ * declared dependencies). Not parallel bundle is always run alone: after all previous bundles and before all next
+ * bundles (exactly as in sequential run).
+ * <p>
+ * {@link GuiceyEnvironment} methods are synchronized and so safe to use from parallel bundles. But dropwizard
+ * environment objects are not thread safe: direct dropwizard environment modifications (e.g.
+ * {@code environment.environment().jersey().register()}) must be synchronized on
+ * {@link GuiceyEnvironment#environment()} object. Also note that the order of registrations, performed by parallel
+ * bundles, is not predictable (use {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} for extensions,
+ * which order is important).
+ * <p>
+ * Bundles run time and critical path (the slowest dependencies chain) are shown in startup report
+ * ({@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#printStartupTime()}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface ParallelGuiceyBundle extends GuiceyBundle {
+
+    /**
+     * Bundles which must complete run before this bundle. Only parallel bundles, initialized before the next
+     * not parallel bundle, could be referenced (not parallel bundles would be anyway run before). Not registered
+     * (or disabled) bundles are ignored.
+     *
+     * @return bundles to wait for before run (empty by default)
+     */
+    default List<Class<? extends GuiceyBundle>> runAfter() {
+        return Collections.emptyList();
+    }
+}
@@ -4,6 +4,8 @@ import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ManagedGroup;
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManaged;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
@@ -16,6 +18,9 @@ import java.util.List;
 /**
  * Managed objects installer.
  * Looks for classes implementing {@code io.dropwizard.lifecycle.Managed} and register them in environment.
+ * <p>
+ * Managed objects, annotated with {@link ParallelManaged}, are started and stopped concurrently: consequent
+ * parallel objects with the same {@link Order} value are registered as one {@link ManagedGroup}.
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
@@ -24,6 +29,8 @@ import java.util.List;
 public class ManagedInstaller implements FeatureInstaller, InstanceInstaller<Managed>, Ordered {
 
     private final Reporter reporter = new Reporter(ManagedInstaller.class, "managed =");
+    // current parallel group (extensions installed in order)
+    private ManagedGroup group;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -32,13 +39,28 @@ public class ManagedInstaller implements FeatureInstaller, InstanceInstaller<Man
 
     @Override
     public void install(final Environment environment, final Managed instance) {
-        reporter.line(RenderUtils.renderClassLine(FeatureUtils.getInstanceClass(instance)));
-        environment.lifecycle().manage(instance);
+        final Class<Managed> type = FeatureUtils.getInstanceClass(instance);
+        final ParallelManaged parallel = FeatureUtils.getAnnotation(type, ParallelManaged.class);
+        reporter.line(RenderUtils.renderClassLine(type,
+                parallel == null ? null : Collections.singletonList("PARALLEL")));
+        if (parallel == null) {
+            group = null;
+            environment.lifecycle().manage(instance);
+        } else {
+            final Order order = FeatureUtils.getAnnotation(type, Order.class);
+            final int value = order == null ? Integer.MAX_VALUE : order.value();
+            if (group == null || group.getOrder() != value) {
+                group = new ManagedGroup(value);
+                environment.lifecycle().manage(group);
+            }
+            group.add(instance, parallel.timeout());
+        }
     }
 
     @Override
     public void report() {
         reporter.report();
+        group = null;
     }
 
     @Override
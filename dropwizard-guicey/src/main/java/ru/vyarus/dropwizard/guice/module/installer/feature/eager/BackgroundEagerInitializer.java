@@ -0,0 +1,142 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.eager;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Injector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Background initialization of {@link EagerSingleton} beans with {@code background = true}. Beans are
+ * instantiated on a bounded thread pool after injector creation (not blocking application startup).
+ * <p>
+ * Initializer is also a health check ({@link #HEALTH_CHECK}): it stays unhealthy until all beans are created
+ * (or if some bean creation fails), so health checks could gate traffic until warm-up finishes.
+ * <p>
+ * Initializer is available in shared state:
+ * {@code SharedConfigurationState.lookup(environment, BackgroundEagerInitializer.class)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BackgroundEagerInitializer extends HealthCheck {
+
+    /**
+     * Health check name.
+     */
+    public static final String HEALTH_CHECK = "guicey-background-eager-singletons";
+
+    private final Logger logger = LoggerFactory.getLogger(BackgroundEagerInitializer.class);
+
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<Class<?>, Duration> times = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Class<?>, Throwable> errors = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Create initializer.
+     *
+     * @param threads maximum threads count for beans creation
+     */
+    public BackgroundEagerInitializer(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("guicey-eager-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Schedule bean creation.
+     *
+     * @param injector injector
+     * @param type     bean type
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void initialize(final Injector injector, final Class<?> type) {
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            final Stopwatch timer = Stopwatch.createStarted();
+            try {
+                injector.getInstance(type);
+                times.put(type, timer.elapsed());
+                logger.debug("Background eager singleton {} created in {} ms", type.getSimpleName(),
+                        timer.elapsed().toMillis());
+            } catch (Throwable ex) {
+                errors.put(type, ex);
+                logger.error("Failed to create background eager singleton " + type.getName(), ex);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Called when all beans are scheduled: pool threads would be stopped after initialization.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Wait for beans initialization (useful for tests). Must be called only after {@link #shutdown()}.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    timeout unit
+     * @return true if all beans processed, false if timeout occurred
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitCompletion(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * @return true if all scheduled beans are processed (successfully or not)
+     */
+    public boolean isCompleted() {
+        return pending.get() == 0;
+    }
+
+    /**
+     * @return created beans with creation time (in creation order)
+     */
+    public Map<Class<?>, Duration> getTimes() {
+        synchronized (times) {
+            return ImmutableMap.copyOf(times);
+        }
+    }
+
+    /**
+     * @return failed beans with errors
+     */
+    public Map<Class<?>, Throwable> getErrors() {
+        synchronized (errors) {
+            return ImmutableMap.copyOf(errors);
+        }
+    }
+
+    @Override
+    protected Result check() throws Exception {
+        final Map<Class<?>, Throwable> failed = getErrors();
+        if (!failed.isEmpty()) {
+            return Result.unhealthy("Failed to create eager singletons: %s", failed.keySet().stream()
+                    .map(Class::getSimpleName).collect(Collectors.joining(", ")));
+        }
+        final int count = pending.get();
+        if (count > 0) {
+            return Result.unhealthy("%s eager singletons initialization in progress", count);
+        }
+        return Result.healthy("%s eager singletons created", times.size());
+    }
+}
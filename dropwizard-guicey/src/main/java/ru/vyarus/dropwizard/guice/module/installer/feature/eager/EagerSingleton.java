@@ -12,6 +12,14 @@ import java.lang.annotation.*;
  * <p>
  * NOTE: use sparingly, because such initialization logic contradicts with guice ideology
  * (such initializer may be suitable for quick prototype or some rare exceptional cases).
+ * <p>
+ * Slow beans could be created in background ({@code @EagerSingleton(background = true)}): bean is bound as
+ * singleton and instantiated on a thread pool right after injector creation (so bean creation time is not a part
+ * of injector creation time). Application would not be healthy until all background beans are created
+ * (see {@link BackgroundEagerInitializer}). Pool size is configured with
+ * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#BackgroundEagerSingletonsThreads}.
+ * Note that in {@link com.google.inject.Stage#PRODUCTION} stage guice creates all singletons eagerly, so background
+ * mode makes sense only in {@link com.google.inject.Stage#DEVELOPMENT} stage (default).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
@@ -21,4 +29,9 @@ import java.lang.annotation.*;
 @Documented
 @Inherited
 public @interface EagerSingleton {
+
+    /**
+     * @return true to create bean in background (after injector creation)
+     */
+    boolean background() default false;
 }
@@ -5,10 +5,16 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Binder;
 import com.google.inject.Binding;
 import com.google.inject.Stage;
+import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.report.guice.util.visitor.GuiceScopingVisitor;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
+import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
+import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
+import ru.vyarus.dropwizard.guice.module.installer.install.TypeInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -28,16 +34,21 @@ import java.util.Set;
  * to register them automatically.
  * Moreover, even in DEVELOPMENT stage instance will be requested, which makes class suitable
  * for initialization logic.
+ * <p>
+ * Background beans ({@code @EagerSingleton(background = true)}) are bound as singletons and created
+ * with {@link BackgroundEagerInitializer} after injector creation.
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(50)
-public class EagerSingletonInstaller implements FeatureInstaller, BindingInstaller {
+public class EagerSingletonInstaller extends InstallerOptionsSupport
+        implements FeatureInstaller, BindingInstaller, TypeInstaller<Object> {
     private static final GuiceScopingVisitor VISITOR = new GuiceScopingVisitor();
 
     private final Reporter reporter = new Reporter(EagerSingletonInstaller.class, "eager singletons =");
     private final Set<String> prerender = new LinkedHashSet<>();
+    private BackgroundEagerInitializer initializer;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -47,7 +58,12 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
     @Override
     public void bind(final Binder binder, final Class<?> type, final boolean lazy) {
         Preconditions.checkArgument(!lazy, "Eager bean can't be annotated as lazy: %s", type.getName());
-        binder.bind(type).asEagerSingleton();
+        if (isBackground(type)) {
+            // instance created after injector creation
+            binder.bind(type).in(Singleton.class);
+        } else {
+            binder.bind(type).asEagerSingleton();
+        }
     }
 
     @Override
@@ -57,7 +73,7 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
         final Class<? extends Annotation> scope = VISITOR.performDetection(binding);
         // in production, all services will work as eager singletons, for report (TOOL stage) consider also valid
         Preconditions.checkArgument(scope.equals(EagerSingleton.class)
-                        || (binder.currentStage() != Stage.DEVELOPMENT
+                        || ((binder.currentStage() != Stage.DEVELOPMENT || isBackground(type))
                         && scope.equals(Singleton.class)),
                 // intentionally no "at" before stacktrtace because idea may hide error in some cases
                 "Eager bean, declared manually is not marked .asEagerSingleton(): %s (%s)",
@@ -68,12 +84,32 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
     public void extensionBound(final Stage stage, final Class<?> type) {
         if (stage != Stage.TOOL) {
             // may be called multiple times if bindings report enabled, but log must be counted just once
-            prerender.add(String.format("%s", RenderUtils.renderClassLine(type)));
+            prerender.add(String.format("%s", RenderUtils.renderClassLine(type,
+                    isBackground(type) ? Collections.singletonList("BACKGROUND") : null)));
+        }
+    }
+
+    @Override
+    public void install(final Environment environment, final Class<Object> type) {
+        if (isBackground(type)) {
+            if (initializer == null) {
+                final int threads = option(InstallersOptions.BackgroundEagerSingletonsThreads);
+                initializer = new BackgroundEagerInitializer(threads);
+                environment.healthChecks().register(BackgroundEagerInitializer.HEALTH_CHECK, initializer);
+                SharedConfigurationState.getOrFail(environment, "Shared state not available")
+                        .put(BackgroundEagerInitializer.class, initializer);
+            }
+            initializer.initialize(InjectorLookup.getInjector(environment).get(), type);
         }
     }
 
     @Override
     public void report() {
+        if (initializer != null) {
+            // all extensions installed: no more beans would be scheduled
+            initializer.shutdown();
+            initializer = null;
+        }
         for (String line : prerender) {
             reporter.line(line);
         }
@@ -85,4 +121,9 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("@" + EagerSingleton.class.getSimpleName() + " on class");
     }
+
+    private boolean isBackground(final Class<?> type) {
+        final EagerSingleton ann = FeatureUtils.getAnnotation(type, EagerSingleton.class);
+        return ann != null && ann.background();
+    }
 }
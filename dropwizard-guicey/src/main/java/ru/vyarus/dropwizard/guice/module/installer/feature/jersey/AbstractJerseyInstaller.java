@@ -1,6 +1,7 @@
 package ru.vyarus.dropwizard.guice.module.installer.feature.jersey;
 
 import com.google.inject.Binder;
+import com.google.inject.Injector;
 import com.google.inject.binder.AnnotatedBindingBuilder;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
@@ -10,7 +11,9 @@ import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding;
 import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
 
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.CollectJerseyRequestMetrics;
 import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ForceSingletonForJerseyExtensions;
 import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.JerseyExtensionsManagedByGuice;
 import static ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding.isJerseyManaged;
@@ -56,6 +59,18 @@ public abstract class AbstractJerseyInstaller<T> extends InstallerOptionsSupport
         return isJerseyManaged(type, option(JerseyExtensionsManagedByGuice));
     }
 
+    /**
+     * Request metrics are enabled with
+     * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#CollectJerseyRequestMetrics}.
+     *
+     * @param injector injector
+     * @return request metrics or null if metrics collection is disabled
+     */
+    protected JerseyRequestMetrics getRequestMetrics(final Injector injector) {
+        return ((Boolean) option(CollectJerseyRequestMetrics)) ? injector.getInstance(JerseyRequestMetrics.class)
+                : null;
+    }
+
     /**
      * Bind to guice context. Singleton scope will be forced if it's not disabled (
      * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ForceSingletonForJerseyExtensions}) and
@@ -13,6 +13,7 @@ import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
 
 import jakarta.ws.rs.Path;
 import java.util.Arrays;
@@ -76,6 +77,10 @@ public class ResourceInstaller extends AbstractJerseyInstaller<Object> implement
     public void install(final AbstractBinder binder, final Injector injector, final Class<Object> type) {
         final boolean jerseyManaged = isJerseyExtension(type);
         JerseyBinding.bindComponent(binder, injector, type, jerseyManaged, isForceSingleton(type, jerseyManaged));
+        final JerseyRequestMetrics metrics = getRequestMetrics(injector);
+        if (metrics != null) {
+            metrics.registerResource(type);
+        }
     }
 
     @Override
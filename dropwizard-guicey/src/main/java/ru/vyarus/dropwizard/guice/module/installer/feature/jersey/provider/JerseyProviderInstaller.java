@@ -19,6 +19,7 @@ import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstal
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 
 import jakarta.ws.rs.container.ContainerRequestFilter;
@@ -160,6 +161,10 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
                 bindComponent(binder, injector, type, hkExtension, forceSingleton);
             }
         }
+        final JerseyRequestMetrics metrics = getRequestMetrics(injector);
+        if (metrics != null) {
+            metrics.registerProvider(type);
+        }
     }
 
     @Override
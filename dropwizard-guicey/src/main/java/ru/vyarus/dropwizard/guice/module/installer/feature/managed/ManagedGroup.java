@@ -0,0 +1,232 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.managed;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Group of {@link ParallelManaged} objects, registered in dropwizard lifecycle as a single managed object.
+ * Group members are started and stopped concurrently (each member in its own thread) and group awaits all
+ * members. All errors are aggregated: when single member fails, its exception is propagated as is.
+ * <p>
+ * When group start fails (or timed out), successfully started members are stopped (in reverse order) before
+ * error propagation (stop errors are logged and added as suppressed).
+ * <p>
+ * Members start and stop times are available after group execution (used by startup report).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ManagedGroup implements Managed {
+    private final Logger logger = LoggerFactory.getLogger(ManagedGroup.class);
+
+    private final int order;
+    private final List<Managed> members = new ArrayList<>();
+    private int timeout;
+
+    private final Map<Class<?>, Duration> startTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Class<?>, Duration> stopTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Create group.
+     *
+     * @param order order value of group members
+     */
+    public ManagedGroup(final int order) {
+        this.order = order;
+    }
+
+    /**
+     * Add group member.
+     *
+     * @param managed managed object
+     * @param timeout member start (and stop) timeout in seconds
+     */
+    public void add(final Managed managed, final int timeout) {
+        members.add(managed);
+        this.timeout = Math.max(this.timeout, timeout);
+    }
+
+    /**
+     * @return order value of group members
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * @return group members
+     */
+    public List<Managed> getMembers() {
+        return ImmutableList.copyOf(members);
+    }
+
+    /**
+     * @return group start (and stop) timeout in seconds
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return members start times (in registration order), empty before start
+     */
+    public Map<Class<?>, Duration> getStartTimes() {
+        return ordered(startTimes);
+    }
+
+    /**
+     * @return members stop times (in registration order), empty before stop
+     */
+    public Map<Class<?>, Duration> getStopTimes() {
+        return ordered(stopTimes);
+    }
+
+    @Override
+    public void start() throws Exception {
+        try {
+            execute("start", Managed::start, startTimes);
+        } catch (Exception ex) {
+            // jetty tracks group as one managed object, so started members must be stopped manually
+            stopStarted(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        execute("stop", Managed::stop, stopTimes);
+    }
+
+    @Override
+    public String toString() {
+        return "Parallel managed group " + members.stream()
+                .map(it -> FeatureUtils.getInstanceClass(it).getSimpleName())
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private void execute(final String action,
+                         final ManagedAction call,
+                         final Map<Class<?>, Duration> times) throws Exception {
+        times.clear();
+        if (members.size() == 1) {
+            // no need for threads
+            run(members.get(0), call, times);
+            return;
+        }
+        logger.debug("Executing {} for {} managed objects in parallel", action, members.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(members.size(),
+                new ThreadFactoryBuilder().setNameFormat("guicey-managed-%d").setDaemon(true).build());
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (Managed managed : members) {
+                futures.add(executor.submit(() -> {
+                    run(managed, call, times);
+                    return null;
+                }));
+            }
+            await(action, futures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(final String action, final List<Future<?>> futures) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        final List<Throwable> errors = new ArrayList<>();
+        final List<String> timedOut = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException ex) {
+                errors.add(ex.getCause());
+            } catch (TimeoutException ex) {
+                timedOut.add(FeatureUtils.getInstanceClass(members.get(i)).getSimpleName());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for managed objects " + action, ex);
+            }
+        }
+        if (!timedOut.isEmpty()) {
+            final IllegalStateException ex = new IllegalStateException(String.format(
+                    "Managed objects %s not completed in %s s: %s", action, timeout, String.join(", ", timedOut)));
+            errors.forEach(ex::addSuppressed);
+            throw ex;
+        }
+        if (errors.size() == 1) {
+            // preserve error for the single failure (the same as in sequential mode)
+            final Throwable error = errors.get(0);
+            throw error instanceof Exception ? (Exception) error : new IllegalStateException(error);
+        } else if (!errors.isEmpty()) {
+            final IllegalStateException ex = new IllegalStateException(String.format(
+                    "%s managed objects %s failed: %s", errors.size(), action, errors.stream()
+                            .map(Throwable::getMessage).collect(Collectors.joining("; "))), errors.get(0));
+            errors.stream().skip(1).forEach(ex::addSuppressed);
+            throw ex;
+        }
+    }
+
+    private void run(final Managed managed,
+                     final ManagedAction call,
+                     final Map<Class<?>, Duration> times) throws Exception {
+        final Stopwatch timer = Stopwatch.createStarted();
+        call.execute(managed);
+        times.put(FeatureUtils.getInstanceClass(managed), timer.elapsed());
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void stopStarted(final Exception error) {
+        final List<Managed> started = members.stream()
+                .filter(it -> startTimes.containsKey(FeatureUtils.getInstanceClass(it)))
+                .collect(Collectors.toList());
+        Collections.reverse(started);
+        for (Managed managed : started) {
+            try {
+                managed.stop();
+            } catch (Exception ex) {
+                logger.warn("Failed to stop managed object " + FeatureUtils.getInstanceClass(managed).getName()
+                        + " after group start failure", ex);
+                error.addSuppressed(ex);
+            }
+        }
+    }
+
+    private Map<Class<?>, Duration> ordered(final Map<Class<?>, Duration> times) {
+        final Map<Class<?>, Duration> res = new LinkedHashMap<>();
+        synchronized (times) {
+            for (Managed managed : members) {
+                final Class<?> type = FeatureUtils.getInstanceClass(managed);
+                if (times.containsKey(type)) {
+                    res.put(type, times.get(type));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Managed object action (start or stop).
+     */
+    @FunctionalInterface
+    private interface ManagedAction {
+        void execute(Managed managed) throws Exception;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.managed;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotated managed objects ({@link io.dropwizard.lifecycle.Managed} extensions) are started and stopped
+ * concurrently with other parallel managed objects of the same group. Group is formed by consequent (in
+ * installation order) parallel managed objects with the same
+ * {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} value (objects without order annotation are
+ * installed last and so form one group too). Group is started (and stopped) as a single managed object: not
+ * parallel managed objects are started before or after the group (according to the order).
+ * <p>
+ * Useful for many independent managed objects (consumers, pools, schedulers) with slow start or stop.
+ * <p>
+ * Group start (or stop) fails if any object does not complete in time: the maximum timeout of group members
+ * is used for the entire group.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ManagedGroup
+ * @since 18.10.2026
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface ParallelManaged {
+
+    /**
+     * @return maximum start (and stop) time in seconds
+     */
+    int timeout() default 60;
+}
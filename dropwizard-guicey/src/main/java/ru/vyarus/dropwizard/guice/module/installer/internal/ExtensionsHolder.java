@@ -7,6 +7,7 @@ import ru.vyarus.dropwizard.guice.module.context.info.impl.ExtensionItemInfoImpl
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,7 @@ public class ExtensionsHolder {
     private List<ExtensionItemInfoImpl> extensionsData;
     private final List<Class<? extends FeatureInstaller>> installerTypes;
     private final Map<Class<? extends FeatureInstaller>, List<Class<?>>> extensions = Maps.newHashMap();
+    private int cachedRecognitions;
 
     /**
      * Create extensions holder.
@@ -53,7 +55,28 @@ public class ExtensionsHolder {
      * @return true if extension accepted
      */
     public boolean acceptScanCandidate(final Class<?> candidate) {
-        final FeatureInstaller installer = ExtensionsSupport.findInstaller(candidate, installers);
+        return acceptScanCandidate(candidate, null);
+    }
+
+    /**
+     * Same as {@link #acceptScanCandidate(Class)}, but use cached recognition result, if available (installers
+     * matching is not performed). Cache must be prepared with {@link ScanCache#useInstallers(List)}.
+     *
+     * @param candidate potential extension
+     * @param cache     startup cache (may be null)
+     * @return true if extension accepted
+     */
+    public boolean acceptScanCandidate(final Class<?> candidate, final ScanCache cache) {
+        final FeatureInstaller installer;
+        if (cache != null && cache.isRecognized(candidate)) {
+            installer = cache.getInstaller(candidate, installers);
+            cachedRecognitions++;
+        } else {
+            installer = ExtensionsSupport.findInstaller(candidate, installers);
+            if (cache != null) {
+                cache.storeRecognition(candidate, installer);
+            }
+        }
         final boolean recognized = installer != null;
         if (recognized) {
             scanExtensions.add(new ScanItem(candidate, installer));
@@ -87,6 +110,13 @@ public class ExtensionsHolder {
         return extensionsData;
     }
 
+    /**
+     * @return count of scanned classes recognized with startup cache
+     */
+    public int getCachedRecognitions() {
+        return cachedRecognitions;
+    }
+
     /**
      * @return list of all registered installer instances
      */
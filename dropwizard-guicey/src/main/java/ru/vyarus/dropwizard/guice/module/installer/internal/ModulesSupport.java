@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.GuiceBootstrapModule;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot;
 import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
@@ -99,8 +100,12 @@ public final class ModulesSupport {
     public static Iterable<Module> prepareModules(final ConfigurationContext context) {
         final StatTimer timer = context.stat().timer(ModulesProcessingTime);
         final List<Module> overridingModules = context.getOverridingModules();
+        // elements shared with diagnostic reports to avoid repeated recording (released after startup)
+        final ModuleElementsSnapshot snapshot = new ModuleElementsSnapshot(
+                context.getNormalModules(), overridingModules, context.stat());
+        context.getSharedState().put(ModuleElementsSnapshot.class, snapshot);
         // repackage normal modules to reveal all guice extensions
-        final List<Module> normalModules = analyzeModules(context, timer);
+        final List<Module> normalModules = analyzeModules(context, timer, snapshot);
 
         final Iterable<Module> res = overridingModules.isEmpty() ? normalModules
                 : Collections.singletonList(Modules.override(normalModules).with(overridingModules));
@@ -116,13 +121,18 @@ public final class ModulesSupport {
      * parsed elements as new module (and use it instead of original modules). Also, if
      * bound extension is disabled, target binding is simply removed (in order to
      * provide the same disable semantic as with usual extensions).
+     * <p>
+     * Original (not filtered) elements are stored in snapshot for diagnostic reports. Elements are not stored when
+     * private modules are analyzed because private modules elements are modified in place.
      *
-     * @param context configuration context
+     * @param context      configuration context
      * @param modulesTimer modules processing timer
+     * @param snapshot     elements snapshot for diagnostic reports
      * @return list of repackaged modules to use
      */
     private static List<Module> analyzeModules(final ConfigurationContext context,
-                                               final StatTimer modulesTimer) {
+                                               final StatTimer modulesTimer,
+                                               final ModuleElementsSnapshot snapshot) {
         List<Module> modules = context.getNormalModules();
         final Boolean configureFromGuice = context.option(AnalyzeGuiceModules);
         // one module mean no user modules registered
@@ -135,6 +145,10 @@ public final class ModulesSupport {
                 final List<Element> elements = new ArrayList<>(
                         Elements.getElements(context.option(InjectorStage), modules));
                 gtime.stop();
+                if (!(boolean) context.option(GuiceyOptions.AnalyzePrivateGuiceModules)
+                        || elements.stream().noneMatch(PrivateElements.class::isInstance)) {
+                    snapshot.analyzed(modules, elements, gtime.getStopwatch().elapsed());
+                }
 
                 // exclude analysis time from modules processing time (it's installer time)
                 modulesTimer.stop();
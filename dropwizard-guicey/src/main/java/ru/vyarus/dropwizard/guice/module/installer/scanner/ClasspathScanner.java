@@ -2,26 +2,50 @@ package ru.vyarus.dropwizard.guice.module.installer.scanner;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassHeader;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanCache;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex;
 
 import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanClassesCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanFromCacheCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanIndexedPackagesCount;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
 
 /**
  * Classpath scanner, reduced to provided packages.
  * Ignores classes annotated with {@link InvisibleForScanner}.
  * <p>
+ * When {@link ScanIndex} usage enabled, available in classpath (and contains classes for scanned package), classes
+ * would be loaded from index instead of classpath traversal. If index contains not existing class (stale index),
+ * package is scanned as usual.
+ * <p>
+ * Class file headers are read before class loading so inner (non-static) classes and classes, annotated with
+ * {@link InvisibleForScanner}, are not loaded at all (inherited annotation is checked after loading). Classes
+ * are loaded without initialization.
+ * <p>
+ * In parallel mode, packages, jars and directories are scanned in separate fork-join tasks (dedicated pool is
+ * used). Found classes order is the same as in sequential mode.
+ * <p>
+ * When {@link ScanCache} provided, cached scan result is used (if available) instead of scan.
+ * <p>
  * Actual scan is performed only on first {@link #scan(ClassVisitor)} call. Later scans used cached classes.
  * {@link #cleanup()} must be used to clear cache.
  *
@@ -38,6 +62,9 @@ public class ClasspathScanner {
 
     private final Set<String> packages;
     private final boolean acceptProtectedClasses;
+    private final boolean useIndex;
+    private final boolean parallel;
+    private final ScanCache cache;
     private List<Class> scanned;
 
     /**
@@ -60,8 +87,63 @@ public class ClasspathScanner {
     public ClasspathScanner(final Set<String> packages,
                             final boolean acceptProtectedClasses,
                             final StatsTracker tracker) {
+        this(packages, acceptProtectedClasses, false, tracker);
+    }
+
+    /**
+     * Create a scanner.
+     *
+     * @param packages               packages to scan
+     * @param acceptProtectedClasses look protected classes
+     * @param useIndex               use scan index (if available) instead of classpath traversal
+     * @param tracker                tracker instance
+     */
+    public ClasspathScanner(final Set<String> packages,
+                            final boolean acceptProtectedClasses,
+                            final boolean useIndex,
+                            final StatsTracker tracker) {
+        this(packages, acceptProtectedClasses, useIndex, false, tracker);
+    }
+
+    /**
+     * Create a scanner.
+     *
+     * @param packages               packages to scan
+     * @param acceptProtectedClasses look protected classes
+     * @param useIndex               use scan index (if available) instead of classpath traversal
+     * @param parallel               scan packages, jars and directories in parallel
+     * @param tracker                tracker instance
+     */
+    public ClasspathScanner(final Set<String> packages,
+                            final boolean acceptProtectedClasses,
+                            final boolean useIndex,
+                            final boolean parallel,
+                            final StatsTracker tracker) {
+        this(packages, acceptProtectedClasses, useIndex, parallel, null, tracker);
+    }
+
+    /**
+     * Create a scanner.
+     *
+     * @param packages               packages to scan
+     * @param acceptProtectedClasses look protected classes
+     * @param useIndex               use scan index (if available) instead of classpath traversal
+     * @param parallel               scan packages, jars and directories in parallel
+     * @param cache                  startup cache (may be null)
+     * @param tracker                tracker instance
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClasspathScanner(final Set<String> packages,
+                            final boolean acceptProtectedClasses,
+                            final boolean useIndex,
+                            final boolean parallel,
+                            final ScanCache cache,
+                            final StatsTracker tracker) {
         this.packages = validate(packages);
         this.acceptProtectedClasses = acceptProtectedClasses;
+        this.useIndex = useIndex;
+        this.parallel = parallel;
+        this.cache = cache;
         this.tracker = tracker;
         // perform scan before to fill cache and get accurate traversing stats
         performScan();
@@ -109,20 +191,35 @@ public class ClasspathScanner {
         return packages;
     }
 
+    private boolean isAcceptable(final ClassHeader header) {
+        // only static inner classes are allowed because guice will not be able to instantiate inner class
+        return !header.isInner() && !header.isInvisible();
+    }
+
     private void performScan() {
         final StatTimer timer = tracker == null ? null : tracker.timer(ScanTime);
+        if (loadFromCache()) {
+            if (timer != null) {
+                timer.stop();
+                tracker.count(ScanClassesCount, cache.getScannedCount());
+                tracker.count(ScanFromCacheCount, 1);
+            }
+            return;
+        }
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final ScanIndex index = useIndex ? ScanIndex.load(loader) : null;
+        final List<PackageScan> results = parallel
+                ? scanParallel(loader, index)
+                : packages.stream().map(pkg -> scanPackage(pkg, loader, index)).collect(Collectors.toList());
         int count = 0;
+        int indexed = 0;
         scanned = Lists.newArrayList();
-        for (String pkg : packages) {
-            final List<Class<?>> found;
-            try {
-                found = OReflectionHelper.getClassesFor(
-                        pkg, Thread.currentThread().getContextClassLoader(), acceptProtectedClasses);
-            } catch (ClassNotFoundException e) {
-                throw new IllegalStateException("Failed to scan classpath", e);
+        for (PackageScan res : results) {
+            count += res.classes.size();
+            if (res.indexed) {
+                indexed++;
             }
-            count += found.size();
-            for (Class<?> cls : found) {
+            for (Class<?> cls : res.classes) {
                 // only static inner classes are allowed because guice will not be able to instantiate inner class
                 final boolean isInner = cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers());
                 if (!isInner && !cls.isAnnotationPresent(InvisibleForScanner.class)) {
@@ -137,6 +234,89 @@ public class ClasspathScanner {
         if (timer != null) {
             timer.stop();
             tracker.count(ScanClassesCount, count);
+            tracker.count(ScanIndexedPackagesCount, indexed);
+            results.forEach(res -> tracker.scanTime(res.pkg, res.time));
+        }
+        if (cache != null) {
+            cache.storeScan(scanned, count);
+        }
+    }
+
+    private boolean loadFromCache() {
+        final List<String> cached = cache == null ? null : cache.getScannedClasses();
+        if (cached == null) {
+            return false;
+        }
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final List<Class> res = Lists.newArrayList();
+        try {
+            for (String name : cached) {
+                res.add(Class.forName(name, false, loader));
+            }
+        } catch (ClassNotFoundException ex) {
+            logger.warn("Startup cache contains not existing class, performing classpath scan", ex);
+            return false;
+        }
+        scanned = res;
+        return true;
+    }
+
+    private List<PackageScan> scanParallel(final ClassLoader loader, final ScanIndex index) {
+        final ForkJoinPool pool = new ForkJoinPool();
+        try {
+            final List<ForkJoinTask<PackageScan>> tasks = packages.stream()
+                    .map(pkg -> pool.submit(() -> scanPackage(pkg, loader, index)))
+                    .collect(Collectors.toList());
+            // join in packages order to preserve classes order
+            return tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private PackageScan scanPackage(final String pkg, final ClassLoader loader, final ScanIndex index) {
+        final Stopwatch watch = Stopwatch.createStarted();
+        final List<String> indexedClasses = index == null ? Collections.emptyList() : index.getClasses(pkg);
+        final List<Class<?>> fromIndex = indexedClasses.isEmpty() ? null : loadFromIndex(pkg, indexedClasses, loader);
+        final List<Class<?>> found = fromIndex != null ? fromIndex : traverse(pkg, loader);
+        return new PackageScan(pkg, found, fromIndex != null, watch.stop().elapsed());
+    }
+
+    private List<Class<?>> traverse(final String pkg, final ClassLoader loader) {
+        try {
+            return parallel
+                    ? OReflectionHelper.getClassesForParallel(pkg, loader, acceptProtectedClasses, this::isAcceptable)
+                    : OReflectionHelper.getClassesFor(pkg, loader, acceptProtectedClasses, this::isAcceptable);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to scan classpath", e);
+        }
+    }
+
+    private List<Class<?>> loadFromIndex(final String pkg, final List<String> classes, final ClassLoader loader) {
+        try {
+            return OReflectionHelper.loadClasses(classes, loader, acceptProtectedClasses, this::isAcceptable);
+        } catch (ClassNotFoundException ex) {
+            // stale index should not prevent startup
+            logger.warn("Scan index contains not existing class, performing classpath scan for package '"
+                    + pkg + "'", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Package scan result.
+     */
+    private static class PackageScan {
+        private final String pkg;
+        private final List<Class<?>> classes;
+        private final boolean indexed;
+        private final Duration time;
+
+        PackageScan(final String pkg, final List<Class<?>> classes, final boolean indexed, final Duration time) {
+            this.pkg = pkg;
+            this.classes = classes;
+            this.indexed = indexed;
+            this.time = time;
         }
     }
 }
@@ -0,0 +1,141 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Class file header (class declaration only), read with ASM without class loading. Used by classpath scanner to
+ * filter out not acceptable classes before loading them.
+ * <p>
+ * Header modifiers are computed the same way as jvm computes {@link Class#getModifiers()} (for nested classes,
+ * modifiers are taken from inner classes attribute).
+ * <p>
+ * Note that only directly declared annotations are visible in header (so inherited
+ * {@link InvisibleForScanner} could be checked only after class loading).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ClassHeader {
+    private static final String INVISIBLE = Type.getDescriptor(InvisibleForScanner.class);
+    // jvm access flags, which might be reported by Class.getModifiers()
+    private static final int WRITTEN_FLAGS = 0x7FFF;
+
+    private final String name;
+    private final int modifiers;
+    private final boolean inner;
+    private final boolean invisible;
+
+    private ClassHeader(final String name, final int modifiers, final boolean inner, final boolean invisible) {
+        this.name = name;
+        this.modifiers = modifiers;
+        this.inner = inner;
+        this.invisible = invisible;
+    }
+
+    /**
+     * @return class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return class modifiers (the same as {@link Class#getModifiers()})
+     */
+    public int getModifiers() {
+        return modifiers;
+    }
+
+    /**
+     * @return true for non-static nested classes (including local and anonymous classes)
+     */
+    public boolean isInner() {
+        return inner;
+    }
+
+    /**
+     * @return true if class directly annotated with {@link InvisibleForScanner}
+     */
+    public boolean isInvisible() {
+        return invisible;
+    }
+
+    /**
+     * Read class header. Stream is closed after reading.
+     *
+     * @param in class file stream
+     * @return class header or null if class file can't be read (e.g. too new class version for asm)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public static ClassHeader read(final InputStream in) {
+        if (in == null) {
+            return null;
+        }
+        try (in) {
+            final HeaderVisitor visitor = new HeaderVisitor();
+            new ClassReader(in).accept(visitor,
+                    ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return visitor.build();
+        } catch (IOException | RuntimeException ex) {
+            // class would be loaded and checked directly
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Visitor reads only class declaration, fields and methods are ignored.
+     */
+    private static class HeaderVisitor extends ClassVisitor {
+        private String internalName;
+        private int access;
+        private boolean nested;
+        private boolean invisible;
+
+        HeaderVisitor() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(final int version, final int access, final String name, final String signature,
+                          final String superName, final String[] interfaces) {
+            this.internalName = name;
+            this.access = access & ~Opcodes.ACC_SUPER;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+            if (INVISIBLE.equals(descriptor)) {
+                invisible = true;
+            }
+            return null;
+        }
+
+        @Override
+        public void visitInnerClass(final String name, final String outerName, final String innerName,
+                                    final int access) {
+            // entry describing current class: declared modifiers of nested class
+            if (name.equals(internalName)) {
+                this.nested = true;
+                this.access = access & ~Opcodes.ACC_SUPER;
+            }
+        }
+
+        ClassHeader build() {
+            return new ClassHeader(internalName.replace('/', '.'), access & WRITTEN_FLAGS,
+                    nested && (access & Opcodes.ACC_STATIC) == 0, invisible);
+        }
+    }
+}
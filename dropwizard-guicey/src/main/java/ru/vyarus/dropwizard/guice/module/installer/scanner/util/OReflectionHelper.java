@@ -3,6 +3,8 @@ package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Modifier;
@@ -14,11 +16,15 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.jar.JarEntry;
+import java.util.function.Predicate;
 import java.util.jar.JarFile;
 
 /**
  * Reflection utility taken from orientdb (http://orientechnologies.com).
  * Helper class to browse .class files.
+ * <p>
+ * Class file header is read (with asm) before class loading in order to avoid loading not acceptable classes
+ * (see {@link ClassHeader}). Classes are loaded without initialization.
  *
  * @author Antony Stubbs
  */
@@ -51,10 +57,28 @@ public final class OReflectionHelper {
      * @return classes in package
      * @throws ClassNotFoundException on error
      */
-    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
     public static List<Class<?>> getClassesFor(final String iPackageName,
                                                final ClassLoader iClassLoader,
                                                final boolean acceptProtectedClasses) throws ClassNotFoundException {
+        return getClassesFor(iPackageName, iClassLoader, acceptProtectedClasses, header -> true);
+    }
+
+    /**
+     * Search for classes in package. Class header filter is applied before class loading (so class would not
+     * be loaded at all if filter reject it). Note that filter is not called when class header can't be read.
+     *
+     * @param iPackageName           package
+     * @param iClassLoader           class loader
+     * @param acceptProtectedClasses true to accept protected classes
+     * @param filter                 class header filter
+     * @return classes in package
+     * @throws ClassNotFoundException on error
+     */
+    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
+    public static List<Class<?>> getClassesFor(final String iPackageName,
+                                               final ClassLoader iClassLoader,
+                                               final boolean acceptProtectedClasses,
+                                               final Predicate<ClassHeader> filter) throws ClassNotFoundException {
         // This will hold a list of directories matching the pckgname.
         // There may be more than one if a package is split over multiple jars/paths
         final List<Class<?>> classes = new ArrayList<Class<?>>();
@@ -78,10 +102,8 @@ public final class OReflectionHelper {
 
                             if (e.getName().startsWith(iPackageName.replace('.', '/')) && e.getName().endsWith(CLASS_EXTENSION)) {
                                 final String className = e.getName().replace("/", ".").substring(0, e.getName().length() - 6);
-                                final Class<?> cls = Class.forName(className, true, iClassLoader);
-                                if (isAcceptibleClass(cls, acceptProtectedClasses)) {
-                                    classes.add(cls);
-                                }
+                                loadClass(className, ClassHeader.read(jar.getInputStream(e)), iClassLoader,
+                                        acceptProtectedClasses, filter, classes);
                             }
                         }
                     } else {
@@ -105,15 +127,13 @@ public final class OReflectionHelper {
                 if (files != null) {
                     for (File file : files) {
                         if (file.isDirectory()) {
-                            classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtectedClasses));
+                            classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtectedClasses, filter));
                         } else {
                             String className;
                             if (file.getName().endsWith(CLASS_EXTENSION)) {
                                 className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                                final Class<?> cls = Class.forName(iPackageName + '.' + className, true, iClassLoader);
-                                if (isAcceptibleClass(cls, acceptProtectedClasses)) {
-                                    classes.add(cls);
-                                }
+                                loadClass(iPackageName + '.' + className, readHeader(file), iClassLoader,
+                                        acceptProtectedClasses, filter, classes);
                             }
                         }
                     }
@@ -125,6 +145,131 @@ public final class OReflectionHelper {
         return classes;
     }
 
+    /**
+     * Parallel version of {@link #getClassesFor(String, ClassLoader, boolean, Predicate)}: each jar and directory
+     * (including all sub directories) is processed in a separate fork-join task. Should be called inside fork-join
+     * pool (otherwise tasks would be executed in common pool). Resulting classes order is the same as for
+     * sequential scan.
+     *
+     * @param iPackageName           package
+     * @param iClassLoader           class loader
+     * @param acceptProtectedClasses true to accept protected classes
+     * @param filter                 class header filter
+     * @return classes in package
+     * @throws ClassNotFoundException on error
+     */
+    public static List<Class<?>> getClassesForParallel(final String iPackageName,
+                                                       final ClassLoader iClassLoader,
+                                                       final boolean acceptProtectedClasses,
+                                                       final Predicate<ClassHeader> filter) throws ClassNotFoundException {
+        final String packageUrl = iPackageName.replace('.', '/');
+        final List<JarFile> jars = new ArrayList<JarFile>();
+        final List<File> directories = new ArrayList<File>();
+        try {
+            Enumeration<URL> resources = iClassLoader.getResources(packageUrl);
+            if (!resources.hasMoreElements()) {
+                resources = iClassLoader.getResources(packageUrl + CLASS_EXTENSION);
+                if (resources.hasMoreElements()) {
+                    throw new IllegalArgumentException(iPackageName + " does not appear to be a valid package but a class");
+                }
+            } else {
+                while (resources.hasMoreElements()) {
+                    final URL res = resources.nextElement();
+                    if ("jar".equalsIgnoreCase(res.getProtocol())) {
+                        jars.add(((JarURLConnection) res.openConnection()).getJarFile());
+                    } else {
+                        directories.add(new File(URLDecoder.decode(res.getPath(), "UTF-8")));
+                    }
+                }
+            }
+        } catch (UnsupportedEncodingException encex) {
+            throw new ClassNotFoundException(iPackageName + " does not appear to be " + "a valid package (Unsupported encoding)");
+        } catch (IOException ioex) {
+            throw new ClassNotFoundException("IOException was thrown when trying " + "to get all resources for " + iPackageName);
+        }
+        for (File directory : directories) {
+            if (!directory.exists()) {
+                throw new ClassNotFoundException(iPackageName + " (" + directory.getPath() + ") does not appear to be a valid package");
+            }
+        }
+
+        // jars processed first (as in sequential scan)
+        final List<ForkJoinTask<List<Class<?>>>> tasks = new ArrayList<ForkJoinTask<List<Class<?>>>>();
+        for (JarFile jar : jars) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                final List<Class<?>> classes = new ArrayList<Class<?>>();
+                for (JarEntry e : Collections.list(jar.entries())) {
+                    if (e.getName().startsWith(packageUrl) && e.getName().endsWith(CLASS_EXTENSION)) {
+                        final String className = e.getName().replace("/", ".").substring(0, e.getName().length() - 6);
+                        loadClass(className, ClassHeader.read(jar.getInputStream(e)), iClassLoader,
+                                acceptProtectedClasses, filter, classes);
+                    }
+                }
+                return classes;
+            }).fork());
+        }
+        for (File directory : directories) {
+            tasks.add(ForkJoinTask.adapt(() -> findClassesParallel(directory, iPackageName, iClassLoader,
+                    acceptProtectedClasses, filter, true)).fork());
+        }
+        final List<Class<?>> classes = new ArrayList<Class<?>>();
+        try {
+            for (ForkJoinTask<List<Class<?>>> task : tasks) {
+                classes.addAll(task.join());
+            }
+        } catch (RuntimeException ex) {
+            // task exceptions are wrapped
+            Throwable cause = ex;
+            while (cause != null && !(cause instanceof ClassNotFoundException)) {
+                cause = cause.getCause();
+            }
+            if (cause != null) {
+                throw (ClassNotFoundException) cause;
+            }
+            throw ex;
+        }
+        return classes;
+    }
+
+    /**
+     * Load classes by name (for example, from {@link ScanIndex}).
+     *
+     * @param classNames             class names
+     * @param iClassLoader           class loader
+     * @param acceptProtectedClasses true to accept protected classes
+     * @return acceptable classes
+     * @throws ClassNotFoundException if class not found
+     */
+    public static List<Class<?>> loadClasses(final List<String> classNames,
+                                             final ClassLoader iClassLoader,
+                                             final boolean acceptProtectedClasses) throws ClassNotFoundException {
+        return loadClasses(classNames, iClassLoader, acceptProtectedClasses, header -> true);
+    }
+
+    /**
+     * Load classes by name (for example, from {@link ScanIndex}). Class header filter is applied before
+     * class loading.
+     *
+     * @param classNames             class names
+     * @param iClassLoader           class loader
+     * @param acceptProtectedClasses true to accept protected classes
+     * @param filter                 class header filter
+     * @return acceptable classes
+     * @throws ClassNotFoundException if class not found
+     */
+    public static List<Class<?>> loadClasses(final List<String> classNames,
+                                             final ClassLoader iClassLoader,
+                                             final boolean acceptProtectedClasses,
+                                             final Predicate<ClassHeader> filter) throws ClassNotFoundException {
+        final List<Class<?>> classes = new ArrayList<Class<?>>();
+        for (String className : classNames) {
+            loadClass(className,
+                    ClassHeader.read(iClassLoader.getResourceAsStream(className.replace('.', '/') + CLASS_EXTENSION)),
+                    iClassLoader, acceptProtectedClasses, filter, classes);
+        }
+        return classes;
+    }
+
     /**
      * Recursive method used to find all classes in a given directory and subdirs.
      *
@@ -135,7 +280,8 @@ public final class OReflectionHelper {
      */
     private static List<Class<?>> findClasses(final File iDirectory, String iPackageName,
                                               ClassLoader iClassLoader,
-                                              boolean acceptProtected) throws ClassNotFoundException {
+                                              boolean acceptProtected,
+                                              Predicate<ClassHeader> filter) throws ClassNotFoundException {
         final List<Class<?>> classes = new ArrayList<Class<?>>();
         if (!iDirectory.exists()) {
             return classes;
@@ -151,23 +297,103 @@ public final class OReflectionHelper {
                     if (file.getName().contains(".")) {
                         continue;
                     }
-                    classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtected));
+                    classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtected, filter));
                 } else if (file.getName().endsWith(CLASS_EXTENSION)) {
                     className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                    final Class<?> cls = Class.forName(iPackageName + '.' + className, true, iClassLoader);
-                    if (isAcceptibleClass(cls, acceptProtected)) {
-                        classes.add(cls);
-                    }
+                    loadClass(iPackageName + '.' + className, readHeader(file), iClassLoader,
+                            acceptProtected, filter, classes);
                 }
             }
         }
         return classes;
     }
 
+    /**
+     * Parallel version of {@link #findClasses(File, String, ClassLoader, boolean, Predicate)}: each sub directory
+     * is processed in a separate fork-join task. Classes order is preserved (the same as in sequential version).
+     *
+     * @param iDirectory   directory
+     * @param iPackageName directory package (parent package for not root directory)
+     * @param root         true for package root directory
+     * @return The classes
+     * @throws ClassNotFoundException
+     */
+    private static List<Class<?>> findClassesParallel(final File iDirectory, final String iPackageName,
+                                                      final ClassLoader iClassLoader,
+                                                      final boolean acceptProtected,
+                                                      final Predicate<ClassHeader> filter,
+                                                      final boolean root) throws ClassNotFoundException {
+        final List<Class<?>> classes = new ArrayList<Class<?>>();
+        if (!iDirectory.exists()) {
+            return classes;
+        }
+        final String packageName = root ? iPackageName : iPackageName + "." + iDirectory.getName();
+        final File[] files = iDirectory.listFiles();
+        if (files == null) {
+            return classes;
+        }
+        // sub directory tasks and file results stored by file position to preserve order
+        final List<ForkJoinTask<List<Class<?>>>> tasks = new ArrayList<ForkJoinTask<List<Class<?>>>>();
+        final List<List<Class<?>>> results = new ArrayList<List<Class<?>>>();
+        for (File file : files) {
+            ForkJoinTask<List<Class<?>>> task = null;
+            final List<Class<?>> res = new ArrayList<Class<?>>();
+            if (file.isDirectory()) {
+                if (root || !file.getName().contains(".")) {
+                    task = ForkJoinTask.adapt(() -> findClassesParallel(file, packageName, iClassLoader,
+                            acceptProtected, filter, false)).fork();
+                }
+            } else if (file.getName().endsWith(CLASS_EXTENSION)) {
+                final String className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
+                loadClass(packageName + '.' + className, readHeader(file), iClassLoader,
+                        acceptProtected, filter, res);
+            }
+            tasks.add(task);
+            results.add(res);
+        }
+        for (int i = 0; i < files.length; i++) {
+            final ForkJoinTask<List<Class<?>>> task = tasks.get(i);
+            classes.addAll(task == null ? results.get(i) : task.join());
+        }
+        return classes;
+    }
+
+    /**
+     * Load class (without initialization) if class header pass visibility checks and filter. When header
+     * is not available class is loaded to check visibility.
+     */
+    private static void loadClass(final String className,
+                                  final ClassHeader header,
+                                  final ClassLoader iClassLoader,
+                                  final boolean acceptProtected,
+                                  final Predicate<ClassHeader> filter,
+                                  final List<Class<?>> classes) throws ClassNotFoundException {
+        if (header != null
+                && (!isAcceptibleModifiers(header.getModifiers(), acceptProtected) || !filter.test(header))) {
+            return;
+        }
+        final Class<?> cls = Class.forName(className, false, iClassLoader);
+        if (isAcceptibleClass(cls, acceptProtected)) {
+            classes.add(cls);
+        }
+    }
+
+    private static ClassHeader readHeader(final File file) {
+        try {
+            return ClassHeader.read(new FileInputStream(file));
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
     private static boolean isAcceptibleClass(final Class type, final boolean acceptProtected) {
+        return isAcceptibleModifiers(type.getModifiers(), acceptProtected);
+    }
+
+    private static boolean isAcceptibleModifiers(final int modifiers, final boolean acceptProtected) {
         // only public non-anonymous classes allowed
-        return Modifier.isPublic(type.getModifiers()) || (acceptProtected &&
+        return Modifier.isPublic(modifiers) || (acceptProtected &&
                 // package private or protected
-                (type.getModifiers() == 0 || Modifier.isProtected(type.getModifiers())));
+                (modifiers == 0 || Modifier.isProtected(modifiers)));
     }
 }
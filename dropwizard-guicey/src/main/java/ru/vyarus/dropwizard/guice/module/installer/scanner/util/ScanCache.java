@@ -0,0 +1,287 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent startup cache: stores classpath scan result and extensions recognition (extension to installer
+ * mapping) between application restarts. Cache is bound to classpath fingerprint (classpath entries size and
+ * modification time) and scan configuration, so any classpath change invalidates cache.
+ * <p>
+ * On cache hit classpath traversal is not performed (cached classes loaded directly by name) and installers
+ * matching is not performed for scanned classes (except when cached installer is not registered anymore).
+ * Recognition cache is additionally bound to registered installers list and installers configuration
+ * ({@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions}): if installers change, recognition is
+ * performed as usual (and cache updated).
+ * <p>
+ * Fingerprint covers only plain classpath (and module path) entries: classes, available through custom class
+ * loaders, are not tracked. Because of this cache is used only when context class loader is the system class
+ * loader (see {@link #isApplicable()}).
+ * <p>
+ * Cache file is a simple properties file, updated only when cache content changes. File is replaced atomically
+ * (written into temporary file first), so partially written cache could not appear. Cached classes count is
+ * stored to additionally verify cached list completeness.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see ru.vyarus.dropwizard.guice.GuiceyOptions#StartupCache
+ */
+public final class ScanCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanCache.class);
+    private static final String VERSION = "1";
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String SCAN = "scan.classes";
+    private static final String SCAN_COUNT = "scan.count";
+    private static final String SCAN_SIZE = "scan.size";
+    private static final String INSTALLERS = "installers";
+    private static final String EXTENSION = "ext.";
+    private static final String NOT_EXTENSION = "-";
+    private static final String SEPARATOR = ",";
+
+    private final Path file;
+    private final Properties props;
+    private boolean modified;
+    private boolean recognitionValid;
+
+    private ScanCache(final Path file, final Properties props) {
+        this.file = file;
+        this.props = props;
+    }
+
+    /**
+     * Load cache from file. If file does not exist or fingerprint does not match, empty cache returned.
+     *
+     * @param file        cache file
+     * @param fingerprint classpath fingerprint (see {@link #fingerprint(Object...)})
+     * @return cache instance
+     */
+    public static ScanCache load(final Path file, final String fingerprint) {
+        final Properties props = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                props.load(in);
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to read guicey startup cache " + file.toAbsolutePath(), ex);
+                props.clear();
+            }
+            if (!fingerprint.equals(props.getProperty(FINGERPRINT))) {
+                LOGGER.debug("Guicey startup cache {} is outdated", file.toAbsolutePath());
+                props.clear();
+            }
+        }
+        final ScanCache cache = new ScanCache(file, props);
+        if (props.isEmpty()) {
+            cache.set(FINGERPRINT, fingerprint);
+        }
+        return cache;
+    }
+
+    /**
+     * Cache fingerprint could track only classpath and module path entries, so cache could not be used when
+     * classes are loaded with custom class loader (otherwise changes would not be detected).
+     *
+     * @return true if cache could be used (context class loader is the system class loader)
+     */
+    public static boolean isApplicable() {
+        return Thread.currentThread().getContextClassLoader() == ClassLoader.getSystemClassLoader();
+    }
+
+    /**
+     * Compute classpath fingerprint: all classpath and module path entries (jars and directories) size and
+     * modification time.
+     * Directories are traversed (only files metadata is used). Additional parts used to bind cache to
+     * configuration.
+     *
+     * @param parts additional fingerprint parts (configuration)
+     * @return fingerprint string
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    public static String fingerprint(final Object... parts) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(VERSION, StandardCharsets.UTF_8);
+        for (Object part : parts) {
+            hasher.putString(String.valueOf(part), StandardCharsets.UTF_8);
+        }
+        hashPath(hasher, System.getProperty("java.class.path", ""));
+        hasher.putString(File.pathSeparator, StandardCharsets.UTF_8);
+        hashPath(hasher, System.getProperty("jdk.module.path", ""));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @return cached classpath scan result (class names) or null if not cached (or cached list is incomplete)
+     */
+    public List<String> getScannedClasses() {
+        final String classes = props.getProperty(SCAN);
+        if (classes == null) {
+            return null;
+        }
+        final List<String> res = Splitter.on(SEPARATOR).omitEmptyStrings().splitToList(classes);
+        if (!String.valueOf(res.size()).equals(props.getProperty(SCAN_SIZE))) {
+            LOGGER.warn("Guicey startup cache {} contains incomplete scan result, performing classpath scan",
+                    file.toAbsolutePath());
+            return null;
+        }
+        return res;
+    }
+
+    /**
+     * @return cached count of scanned classes (for stats)
+     */
+    public int getScannedCount() {
+        return Integer.parseInt(props.getProperty(SCAN_COUNT, "0"));
+    }
+
+    /**
+     * Store classpath scan result.
+     *
+     * @param classes scanned classes
+     * @param count   count of scanned classes (before filtering)
+     */
+    @SuppressWarnings("rawtypes")
+    public void storeScan(final List<Class> classes, final int count) {
+        set(SCAN, classes.stream().map(Class::getName).collect(Collectors.joining(SEPARATOR)));
+        set(SCAN_COUNT, String.valueOf(count));
+        set(SCAN_SIZE, String.valueOf(classes.size()));
+    }
+
+    /**
+     * Must be called before recognition cache usage. If installers or installers configuration differ from cached,
+     * recognition cache is cleared.
+     *
+     * @param installers registered installers (in recognition order)
+     * @param config     installers configuration (options, affecting recognition)
+     */
+    public void useInstallers(final List<FeatureInstaller> installers, final String config) {
+        final String key = installers.stream()
+                .map(it -> it.getClass().getName()).collect(Collectors.joining(SEPARATOR)) + ";" + config;
+        if (!key.equals(props.getProperty(INSTALLERS))) {
+            new ArrayList<>(props.stringPropertyNames()).stream()
+                    .filter(it -> it.startsWith(EXTENSION))
+                    .forEach(props::remove);
+            set(INSTALLERS, key);
+        }
+        recognitionValid = true;
+    }
+
+    /**
+     * @param type scanned class
+     * @return true if class recognition result is cached
+     */
+    public boolean isRecognized(final Class<?> type) {
+        return recognitionValid && props.containsKey(EXTENSION + type.getName());
+    }
+
+    /**
+     * @param type       scanned class
+     * @param installers registered installers
+     * @return cached installer or null if class is not an extension or cached installer is not registered
+     */
+    public FeatureInstaller getInstaller(final Class<?> type, final List<FeatureInstaller> installers) {
+        final String installer = props.getProperty(EXTENSION + type.getName());
+        for (FeatureInstaller inst : installers) {
+            if (inst.getClass().getName().equals(installer)) {
+                return inst;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store class recognition result.
+     *
+     * @param type      scanned class
+     * @param installer recognized installer (null if class is not an extension)
+     */
+    public void storeRecognition(final Class<?> type, final FeatureInstaller installer) {
+        if (recognitionValid) {
+            set(EXTENSION + type.getName(), installer == null ? NOT_EXTENSION : installer.getClass().getName());
+        }
+    }
+
+    /**
+     * Write cache file (only if cache was modified).
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+        final Path dir = file.toAbsolutePath().getParent();
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            // write into temp file in the same directory to replace cache atomically
+            tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, "Guicey startup cache");
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to write guicey startup cache " + file.toAbsolutePath(), ex);
+            deleteQuietly(tmp);
+        }
+    }
+
+    private void set(final String key, final String value) {
+        if (!value.equals(props.getProperty(key))) {
+            props.setProperty(key, value);
+            modified = true;
+        }
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static void hashPath(final Hasher hasher, final String classpath) {
+        for (String entry : Splitter.on(File.pathSeparatorChar).omitEmptyStrings().split(classpath)) {
+            final Path path = Paths.get(entry);
+            hasher.putString(entry, StandardCharsets.UTF_8);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.walk(path)) {
+                    files.filter(Files::isRegularFile).sorted().forEach(it -> hashFile(hasher, it));
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Failed to compute classpath fingerprint", ex);
+                }
+            } else if (Files.exists(path)) {
+                hashFile(hasher, path);
+            }
+        }
+    }
+
+    private static void deleteQuietly(final Path tmp) {
+        if (tmp != null) {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // nothing to do
+            }
+        }
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static void hashFile(final Hasher hasher, final Path file) {
+        final File target = file.toFile();
+        hasher.putString(file.toString(), StandardCharsets.UTF_8)
+                .putLong(target.length())
+                .putLong(target.lastModified());
+    }
+}
@@ -0,0 +1,178 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pre-built classpath scan index. Index is a simple text file ({@link #LOCATION}) with fully qualified class names
+ * (one per line; empty lines and lines starting with "#" are ignored). Multiple index files (from different jars)
+ * are merged.
+ * <p>
+ * When index contains classes for scanned package, classpath scanner would use them instead of jars and directories
+ * traversal (class files lookup). When index does not contain any class for package (or there is no index at all),
+ * usual classpath scan is performed. Index contains only class names: all scanner checks (visibility,
+ * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner}, inner classes) are still applied.
+ * <p>
+ * Index is generated at build time with {@link #main(String...)}. For example, with gradle:
+ * <pre>{@code
+ * tasks.register('guiceyScanIndex', JavaExec) {
+ *     dependsOn compileJava
+ *     classpath = sourceSets.main.runtimeClasspath
+ *     mainClass = 'ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex'
+ *     args = [sourceSets.main.java.destinationDirectory.get().asFile, 'com.company.app']
+ * }
+ * classes.dependsOn guiceyScanIndex
+ * }</pre>
+ * Note that index must be re-generated on each build, otherwise new classes would be invisible for scanner.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ScanIndex {
+
+    /**
+     * Index file location (in classpath).
+     */
+    public static final String LOCATION = "META-INF/guicey/extensions.idx";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String COMMENT = "#";
+
+    private final Set<String> classes;
+
+    private ScanIndex(final Set<String> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * @param pkg package name
+     * @return indexed classes from package (and sub packages) or empty list if index does not contain package
+     */
+    public List<String> getClasses(final String pkg) {
+        final String prefix = pkg + '.';
+        return classes.stream()
+                .filter(it -> it.startsWith(prefix))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return all indexed classes
+     */
+    public Set<String> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Loads all index files, available in classpath.
+     *
+     * @param loader class loader
+     * @return index or null if no index files found
+     */
+    public static ScanIndex load(final ClassLoader loader) {
+        final Set<String> res = new LinkedHashSet<>();
+        boolean found = false;
+        try {
+            final Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                found = true;
+                read(resources.nextElement(), res);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to load classpath scan index", ex);
+        }
+        return found ? new ScanIndex(res) : null;
+    }
+
+    /**
+     * Search classes in compiled classes directory. Class files are not loaded: classes resolved just by file name.
+     *
+     * @param classesDir compiled classes directory
+     * @param packages   packages to index
+     * @return sorted class names
+     * @throws IOException on directory traversal error
+     */
+    public static List<String> collect(final Path classesDir, final String... packages) throws IOException {
+        final List<String> res = new ArrayList<>();
+        for (String pkg : packages) {
+            final Path root = classesDir.resolve(pkg.replace('.', '/'));
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(it -> Files.isRegularFile(it) && it.getFileName().toString().endsWith(CLASS_EXTENSION))
+                        .map(it -> {
+                            final String path = classesDir.relativize(it).toString();
+                            return path.substring(0, path.length() - CLASS_EXTENSION.length())
+                                    .replace('\\', '.').replace('/', '.');
+                        })
+                        // package-info and module-info
+                        .filter(it -> !it.contains("-"))
+                        .forEach(res::add);
+            }
+        }
+        res.sort(String::compareTo);
+        return res;
+    }
+
+    /**
+     * Write index file.
+     *
+     * @param file    target file
+     * @param classes class names
+     * @throws IOException on write error
+     */
+    public static void write(final Path file, final Collection<String> classes) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        lines.add(COMMENT + " Guicey classpath scan index (generated)");
+        lines.addAll(classes);
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Index generator. Arguments: compiled classes directory and packages to index. Index file would be created
+     * inside classes directory ({@link #LOCATION}) so it would be packaged into jar.
+     *
+     * @param args classes directory and packages
+     * @throws IOException on generation error
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String... args) throws IOException {
+        Preconditions.checkArgument(args.length > 1,
+                "Required arguments: <classes dir> <package> [<package> ...]");
+        final Path classesDir = Paths.get(args[0]);
+        final List<String> classes = collect(classesDir, Arrays.copyOfRange(args, 1, args.length));
+        final Path target = classesDir.resolve(LOCATION);
+        write(target, classes);
+        System.out.println(classes.size() + " classes written to guicey scan index " + target);
+    }
+
+    private static void read(final URL url, final Set<String> res) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith(COMMENT)) {
+                    res.add(name);
+                }
+            }
+        }
+    }
+}
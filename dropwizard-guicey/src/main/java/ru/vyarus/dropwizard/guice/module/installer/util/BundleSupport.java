@@ -7,6 +7,7 @@ import com.google.common.collect.Lists;
 import io.dropwizard.core.setup.Bootstrap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
@@ -14,6 +15,7 @@ import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelGuiceyBundle;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -81,7 +83,9 @@ public final class BundleSupport {
     }
 
     /**
-     * Run all enabled bundles (and delayed configurations).
+     * Run all enabled bundles (and delayed configurations). When parallel run is enabled
+     * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#BundlesRunThreads}), {@link ParallelGuiceyBundle}s are run
+     * concurrently.
      *
      * @param context bundles context
      * @throws Exception if something goes wrong
@@ -92,10 +96,15 @@ public final class BundleSupport {
         context.processDelayedConfigurations(env);
         // important to process bundles in the same order as they were initialized
         final List<GuiceyBundle> bundlesOrdered = context.getBundlesOrdered();
-        for (GuiceyBundle bundle : bundlesOrdered) {
-            final Stopwatch timer = context.stat().detailTimer(DetailStat.BundleRun, bundle.getClass());
-            bundle.run(env);
-            timer.stop();
+        final int threads = context.option(GuiceyOptions.BundlesRunThreads);
+        if (threads > 1 && bundlesOrdered.stream().anyMatch(ParallelGuiceyBundle.class::isInstance)) {
+            new ParallelBundlesRunner(context, env, threads).run(bundlesOrdered);
+        } else {
+            for (GuiceyBundle bundle : bundlesOrdered) {
+                final Stopwatch timer = context.stat().detailTimer(DetailStat.BundleRun, bundle.getClass());
+                bundle.run(env);
+                timer.stop();
+            }
         }
         context.lifecycle().bundlesStarted(bundlesOrdered);
     }
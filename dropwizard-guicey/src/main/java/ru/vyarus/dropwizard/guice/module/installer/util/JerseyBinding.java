@@ -71,7 +71,7 @@ public final class JerseyBinding {
 
     /**
      * Binds component into jersey context. If component is annotated with {@link JerseyManaged}, then registers type,
-     * otherwise register guice "bridge" factory around component.
+     * otherwise register guice "bridge" factory around component (guice provider resolved immediately).
      *
      * @param binder        jersey binder
      * @param injector      guice injector
@@ -124,9 +124,12 @@ public final class JerseyBinding {
                             : binder.bindFactory((Class<Supplier<T>>) type).to(type).to(res),
                     singleton);
         } else {
-            binder.bindFactory(new LazyGuiceFactory(injector, type)).to(res);
+            // the same guice provider used for both bindings
+            final Class<Supplier<T>> factoryType = (Class<Supplier<T>>) type;
+            final Provider<Supplier<T>> provider = injector.getProvider(factoryType);
+            binder.bindFactory(new LazyGuiceFactory<>(provider, factoryType)).to(res);
             // binding factory type to be able to autowire factory by name
-            optionalSingleton(binder.bindFactory(new GuiceComponentFactory<>(injector, type)).to(type),
+            optionalSingleton(binder.bindFactory(new GuiceComponentFactory<>(provider, factoryType)).to(type),
                     singleton);
         }
     }
@@ -0,0 +1,213 @@
+package ru.vyarus.dropwizard.guice.module.installer.util;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelGuiceyBundle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Guicey bundles run with concurrent execution of {@link ParallelGuiceyBundle}s. Bundles are split into groups:
+ * consequent parallel bundles form one group and each not parallel bundle is a separate group. Groups are
+ * processed sequentially (in bundles initialization order). Bundles inside group are run concurrently with
+ * respect to declared dependencies ({@link ParallelGuiceyBundle#runAfter()}).
+ * <p>
+ * Bundles run critical path (the slowest dependencies chain) is computed from actual bundles run times.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class ParallelBundlesRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelBundlesRunner.class);
+
+    private final ConfigurationContext context;
+    private final GuiceyEnvironment environment;
+    private final int threads;
+    // types of already executed bundles
+    private final Set<Class<?>> done = new HashSet<>();
+
+    ParallelBundlesRunner(final ConfigurationContext context,
+                          final GuiceyEnvironment environment,
+                          final int threads) {
+        this.context = context;
+        this.environment = environment;
+        this.threads = threads;
+    }
+
+    /**
+     * Run bundles.
+     *
+     * @param bundles bundles in initialization order
+     * @throws Exception if bundle run fails
+     */
+    void run(final List<GuiceyBundle> bundles) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("guicey-bundles-%d").setDaemon(true).build());
+        Duration criticalPath = Duration.ZERO;
+        try {
+            final List<GuiceyBundle> group = new ArrayList<>();
+            for (GuiceyBundle bundle : bundles) {
+                if (bundle instanceof ParallelGuiceyBundle) {
+                    group.add(bundle);
+                } else {
+                    criticalPath = criticalPath.plus(runGroup(group, bundles, executor));
+                    group.clear();
+                    criticalPath = criticalPath.plus(runBundle(bundle));
+                }
+            }
+            criticalPath = criticalPath.plus(runGroup(group, bundles, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.debug("Guicey bundles run critical path: {} ms", criticalPath.toMillis());
+        context.stat().bundlesRunCriticalPath(criticalPath);
+    }
+
+    private Duration runGroup(final List<GuiceyBundle> group,
+                              final List<GuiceyBundle> bundles,
+                              final ExecutorService executor) throws Exception {
+        if (group.isEmpty()) {
+            return Duration.ZERO;
+        }
+        final Map<GuiceyBundle, List<GuiceyBundle>> dependencies = resolveDependencies(group, bundles);
+        final Map<GuiceyBundle, Duration> times = Collections.synchronizedMap(new IdentityHashMap<>());
+        final Map<GuiceyBundle, CompletableFuture<Duration>> futures = new IdentityHashMap<>();
+        LOGGER.debug("Running {} guicey bundles in parallel: {}", group.size(), group.stream()
+                .map(it -> it.getClass().getSimpleName()).collect(Collectors.joining(", ")));
+        for (GuiceyBundle bundle : group) {
+            checkCycles(bundle, dependencies, new ArrayList<>());
+        }
+        for (GuiceyBundle bundle : group) {
+            schedule(bundle, dependencies, futures, times, executor);
+        }
+
+        Duration res = Duration.ZERO;
+        final List<Throwable> errors = new ArrayList<>();
+        for (GuiceyBundle bundle : group) {
+            try {
+                final Duration finish = futures.get(bundle).join();
+                res = finish.compareTo(res) > 0 ? finish : res;
+            } catch (CompletionException ex) {
+                // failed dependency fails all dependent bundles with the same error
+                if (errors.stream().noneMatch(it -> it == ex.getCause())) {
+                    errors.add(ex.getCause());
+                }
+            }
+        }
+        // record times in initialization order
+        for (GuiceyBundle bundle : group) {
+            final Duration time = times.get(bundle);
+            if (time != null) {
+                context.stat().detailTime(DetailStat.BundleRun, bundle.getClass(), time);
+            }
+            done.add(bundle.getClass());
+        }
+        if (!errors.isEmpty()) {
+            final Throwable error = errors.get(0);
+            errors.stream().skip(1).forEach(error::addSuppressed);
+            Throwables.throwIfInstanceOf(error, Exception.class);
+            Throwables.throwIfUnchecked(error);
+            throw new IllegalStateException(error);
+        }
+        return res;
+    }
+
+    private Map<GuiceyBundle, List<GuiceyBundle>> resolveDependencies(final List<GuiceyBundle> group,
+                                                                      final List<GuiceyBundle> bundles) {
+        final Map<GuiceyBundle, List<GuiceyBundle>> res = new IdentityHashMap<>();
+        for (GuiceyBundle bundle : group) {
+            final List<GuiceyBundle> deps = new ArrayList<>();
+            for (Class<? extends GuiceyBundle> type : ((ParallelGuiceyBundle) bundle).runAfter()) {
+                final List<GuiceyBundle> found = group.stream()
+                        .filter(it -> it != bundle && type.equals(it.getClass()))
+                        .collect(Collectors.toList());
+                if (found.isEmpty() && !done.contains(type) && !type.equals(bundle.getClass())
+                        && bundles.stream().anyMatch(it -> type.equals(it.getClass()))) {
+                    throw new IllegalStateException(String.format(
+                            "Guicey bundle %s could not be run after %s: it would be run later (after "
+                                    + "not parallel bundle)",
+                            bundle.getClass().getSimpleName(), type.getSimpleName()));
+                }
+                // already executed or not registered bundles are ignored
+                deps.addAll(found);
+            }
+            res.put(bundle, deps);
+        }
+        return res;
+    }
+
+    private void checkCycles(final GuiceyBundle bundle,
+                             final Map<GuiceyBundle, List<GuiceyBundle>> dependencies,
+                             final List<GuiceyBundle> path) {
+        final boolean cycle = path.contains(bundle);
+        path.add(bundle);
+        if (cycle) {
+            throw new IllegalStateException("Guicey bundles run dependencies cycle: " + path.stream()
+                    .map(it -> it.getClass().getSimpleName()).collect(Collectors.joining(" -> ")));
+        }
+        for (GuiceyBundle dep : dependencies.get(bundle)) {
+            checkCycles(dep, dependencies, path);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    private CompletableFuture<Duration> schedule(final GuiceyBundle bundle,
+                                                 final Map<GuiceyBundle, List<GuiceyBundle>> dependencies,
+                                                 final Map<GuiceyBundle, CompletableFuture<Duration>> futures,
+                                                 final Map<GuiceyBundle, Duration> times,
+                                                 final ExecutorService executor) {
+        CompletableFuture<Duration> res = futures.get(bundle);
+        if (res == null) {
+            final List<CompletableFuture<Duration>> deps = new ArrayList<>();
+            for (GuiceyBundle dep : dependencies.get(bundle)) {
+                deps.add(schedule(dep, dependencies, futures, times, executor));
+            }
+            res = CompletableFuture.allOf(deps.toArray(new CompletableFuture[0])).thenApplyAsync(ignored -> {
+                // bundle critical path: the slowest dependency chain plus bundle run time
+                final Duration start = deps.stream().map(CompletableFuture::join)
+                        .max(Comparator.naturalOrder()).orElse(Duration.ZERO);
+                try {
+                    final Duration time = runBundle(bundle);
+                    times.put(bundle, time);
+                    return start.plus(time);
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            }, executor);
+            futures.put(bundle, res);
+        }
+        return res;
+    }
+
+    private Duration runBundle(final GuiceyBundle bundle) throws Exception {
+        final Stopwatch timer = Stopwatch.createStarted();
+        bundle.run(environment);
+        final Duration time = timer.elapsed();
+        if (!(bundle instanceof ParallelGuiceyBundle)) {
+            // parallel bundles time is recorded after group execution
+            context.stat().detailTime(DetailStat.BundleRun, bundle.getClass(), time);
+            done.add(bundle.getClass());
+        }
+        return time;
+    }
+}
@@ -10,6 +10,7 @@ import org.glassfish.jersey.internal.inject.InjectionManager;
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorProvider;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.jersey.hk2.GuiceBindingsModule;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics;
 
 import jakarta.servlet.DispatcherType;
 
@@ -17,6 +18,7 @@ import java.util.EnumSet;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.GuiceFilterRegistration;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseHkBridge;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.CollectJerseyRequestMetrics;
 import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.JerseyExtensionsManagedByGuice;
 
 /**
@@ -70,12 +72,27 @@ public class Jersey2Module extends AbstractModule {
         if (currentStage() != Stage.TOOL) {
             environment.jersey().register(component);
         }
+        if (context.option(CollectJerseyRequestMetrics)) {
+            registerRequestMetrics();
+        }
 
         if (guiceServletSupport) {
             install(new GuiceWebModule(environment, types));
         }
     }
 
+    /**
+     * Request metrics object is bound in guice so jersey installers could register installed extensions
+     * (and to simplify metrics access).
+     */
+    private void registerRequestMetrics() {
+        final JerseyRequestMetrics metrics = new JerseyRequestMetrics(environment.metrics());
+        bind(JerseyRequestMetrics.class).toInstance(metrics);
+        if (currentStage() != Stage.TOOL) {
+            environment.jersey().register(metrics);
+        }
+    }
+
     /**
      * When HK2 management for jersey extensions is enabled by default, then guice bridge must be enabled.
      * Without it guice beans could not be used in resources and other jersey extensions. If this is
@@ -0,0 +1,273 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+import ru.vyarus.dropwizard.guice.url.model.ResourceMethodInfo;
+import ru.vyarus.dropwizard.guice.url.resource.ResourceAnalyzer;
+
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runtime request metrics for guicey-installed jersey extensions. Enabled with
+ * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#CollectJerseyRequestMetrics} option.
+ * <p>
+ * Jersey installers register installed resources ({@link #registerResource(Class)}) and providers
+ * ({@link #registerProvider(Class)}): all metrics are created at installation time (from resource methods
+ * metadata), so request processing only looks up prepared metrics (no reflection per request).
+ * <p>
+ * Registered metrics (in dropwizard {@link MetricRegistry}):
+ * <ul>
+ *     <li>Timer for each resource method: {@code guicey.jersey.[resource class].[method]}. When resource
+ *     declares several resource methods with the same name (overloads), http method and parameter types are
+ *     added: {@code guicey.jersey.[resource class].[method].[http method]_[parameter types]}
+ *     (e.g. {@code guicey.jersey.com.foo.Resource.get.GET_String_Integer})</li>
+ *     <li>Request and response filters phases timers: {@code guicey.jersey.filters.request} and
+ *     {@code guicey.jersey.filters.response} (all filters, not only installed by guicey)</li>
+ *     <li>Calls meter for each filter and interceptor: {@code guicey.jersey.[provider class].calls}</li>
+ * </ul>
+ * Jersey does not expose separate filter execution time, so filters are measured as phase (all filters) and
+ * each filter execution is counted.
+ * <p>
+ * Object is available for injection in guice. Use
+ * {@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#printJerseyRequestMetrics()} to print metrics report
+ * on application shutdown.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@InvisibleForScanner
+public class JerseyRequestMetrics implements ApplicationEventListener {
+
+    /**
+     * Metrics prefix.
+     */
+    public static final String PREFIX = "guicey.jersey";
+
+    private static final List<Class<?>> PROVIDER_TYPES = ImmutableList.of(
+            ContainerRequestFilter.class,
+            ContainerResponseFilter.class,
+            ReaderInterceptor.class,
+            WriterInterceptor.class
+    );
+
+    private final MetricRegistry registry;
+    private final Timer requestFilters;
+    private final Timer responseFilters;
+
+    // lookup by handling and definition methods
+    private final Map<Method, ResourceMethodMetric> methods = new ConcurrentHashMap<>();
+    private final List<ResourceMethodMetric> resources = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, ProviderMetric> providers = new ConcurrentHashMap<>();
+    // lookup cache by actual instance class (could be guice proxy or not guicey extension)
+    private final Map<Class<?>, Optional<ProviderMetric>> providersCache = new ConcurrentHashMap<>();
+
+    /**
+     * Create metrics.
+     *
+     * @param registry metrics registry
+     */
+    public JerseyRequestMetrics(final MetricRegistry registry) {
+        this.registry = registry;
+        this.requestFilters = registry.timer(MetricRegistry.name(PREFIX, "filters", "request"));
+        this.responseFilters = registry.timer(MetricRegistry.name(PREFIX, "filters", "response"));
+    }
+
+    /**
+     * Register timers for all resource methods (sub-resource locators are ignored).
+     *
+     * @param type resource class
+     */
+    public void registerResource(final Class<?> type) {
+        final Map<Method, ResourceMethodInfo> found = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            if (Object.class.equals(method.getDeclaringClass()) || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+            final Method annotated = findAnnotatedMethod(method);
+            final Optional<String> httpMethod = annotated == null
+                    ? Optional.empty() : ResourceAnalyzer.getHttpMethod(annotated);
+            if (httpMethod.isPresent()) {
+                final Class<?> resource = ResourceAnalyzer.findAnnotatedResource(type);
+                found.put(method, new ResourceMethodInfo(resource,
+                        ResourceAnalyzer.getResourcePath(resource), annotated,
+                        ResourceAnalyzer.getMethodPath(annotated), httpMethod.get()));
+            }
+        }
+        // overloaded methods would require unique timer names
+        final Map<String, Long> names = found.keySet().stream()
+                .collect(Collectors.groupingBy(Method::getName, Collectors.counting()));
+        found.forEach((method, info) -> {
+            final ResourceMethodMetric metric = new ResourceMethodMetric(type, info,
+                    registry.timer(timerName(type, info, method, names.get(method.getName()) > 1)));
+            // the same class could not be installed twice, but just in case
+            if (methods.putIfAbsent(method, metric) == null) {
+                methods.putIfAbsent(info.getMethod(), metric);
+                resources.add(metric);
+            }
+        });
+    }
+
+    /**
+     * Register calls meter for filters and interceptors (other providers are ignored).
+     *
+     * @param type provider class
+     */
+    public void registerProvider(final Class<?> type) {
+        final List<Class<?>> extensions = PROVIDER_TYPES.stream()
+                .filter(it -> it.isAssignableFrom(type))
+                .collect(Collectors.toList());
+        if (!extensions.isEmpty()) {
+            providers.computeIfAbsent(type, key -> new ProviderMetric(type, extensions,
+                    registry.meter(MetricRegistry.name(PREFIX, type.getName(), "calls"))));
+        }
+    }
+
+    /**
+     * @return resource methods metrics (in registration order)
+     */
+    public List<ResourceMethodMetric> getResourceMethods() {
+        return ImmutableList.copyOf(resources);
+    }
+
+    /**
+     * @return filters and interceptors metrics
+     */
+    public List<ProviderMetric> getProviders() {
+        return ImmutableList.copyOf(providers.values());
+    }
+
+    /**
+     * @return request filters phase timer
+     */
+    public Timer getRequestFiltersTimer() {
+        return requestFilters;
+    }
+
+    /**
+     * @return response filters phase timer
+     */
+    public Timer getResponseFiltersTimer() {
+        return responseFilters;
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        // not needed
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        return new RequestTracker(System.nanoTime());
+    }
+
+    private String timerName(final Class<?> type, final ResourceMethodInfo info, final Method method,
+                             final boolean overloaded) {
+        // suffix contains only safe characters for metrics reporters
+        return MetricRegistry.name(PREFIX, type.getName(), method.getName(), overloaded
+                ? Stream.concat(Stream.of(info.getHttpMethod()), Arrays.stream(method.getParameterTypes())
+                        .map(it -> it.getSimpleName().replace("[]", "Array")))
+                .collect(Collectors.joining("_")) : null);
+    }
+
+    private Method findAnnotatedMethod(final Method method) {
+        try {
+            return ResourceAnalyzer.findAnnotatedMethod(method);
+        } catch (IllegalStateException ex) {
+            // not a resource method
+            return null;
+        }
+    }
+
+    private ResourceMethodMetric findMethod(final ResourceMethod method) {
+        if (method == null) {
+            return null;
+        }
+        final Invocable invocable = method.getInvocable();
+        final ResourceMethodMetric res = methods.get(invocable.getHandlingMethod());
+        return res == null ? methods.get(invocable.getDefinitionMethod()) : res;
+    }
+
+    private void markCalls(final Iterable<?> instances) {
+        if (instances == null || providers.isEmpty()) {
+            return;
+        }
+        for (Object instance : instances) {
+            providersCache.computeIfAbsent(instance.getClass(),
+                            type -> Optional.ofNullable(providers.get(FeatureUtils.getInstanceClass(instance))))
+                    .ifPresent(metric -> metric.getCalls().mark());
+        }
+    }
+
+    /**
+     * Per-request tracker. Resolves prepared metrics only.
+     */
+    private class RequestTracker implements RequestEventListener {
+        private final long start;
+        private long preMatching;
+        private long phaseStart;
+
+        RequestTracker(final long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onEvent(final RequestEvent event) {
+            final long now = System.nanoTime();
+            switch (event.getType()) {
+                case MATCHING_START:
+                    // pre-matching filters executed
+                    preMatching = now - start;
+                    break;
+                case REQUEST_MATCHED:
+                case RESOURCE_METHOD_START:
+                case RESP_FILTERS_START:
+                    phaseStart = now;
+                    break;
+                case REQUEST_FILTERED:
+                    requestFilters.update(preMatching + now - phaseStart, TimeUnit.NANOSECONDS);
+                    markCalls(event.getContainerRequestFilters());
+                    break;
+                case RESOURCE_METHOD_FINISHED:
+                    final ResourceMethodMetric metric = findMethod(event.getUriInfo().getMatchedResourceMethod());
+                    if (metric != null) {
+                        metric.getTimer().update(now - phaseStart, TimeUnit.NANOSECONDS);
+                    }
+                    break;
+                case RESP_FILTERS_FINISHED:
+                    responseFilters.update(now - phaseStart, TimeUnit.NANOSECONDS);
+                    markCalls(event.getContainerResponseFilters());
+                    break;
+                case FINISHED:
+                    markCalls(event.getReaderInterceptors());
+                    markCalls(event.getWriterInterceptors());
+                    break;
+                default:
+                    // not tracked
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.codahale.metrics.Meter;
+
+import java.util.List;
+
+/**
+ * Guicey-installed jersey filter or interceptor metric.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ProviderMetric {
+
+    private final Class<?> type;
+    private final List<Class<?>> extensions;
+    private final Meter calls;
+
+    /**
+     * Create metric.
+     *
+     * @param type       provider class
+     * @param extensions implemented filter and interceptor types
+     * @param calls      provider calls meter
+     */
+    public ProviderMetric(final Class<?> type, final List<Class<?>> extensions, final Meter calls) {
+        this.type = type;
+        this.extensions = extensions;
+        this.calls = calls;
+    }
+
+    /**
+     * @return provider class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return implemented filter and interceptor types
+     */
+    public List<Class<?>> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * @return provider calls meter
+     */
+    public Meter getCalls() {
+        return calls;
+    }
+}
@@ -0,0 +1,51 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.codahale.metrics.Timer;
+import ru.vyarus.dropwizard.guice.url.model.ResourceMethodInfo;
+
+/**
+ * Guicey-installed resource method metric. Resource method metadata is resolved at installation time.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ResourceMethodMetric {
+
+    private final Class<?> type;
+    private final ResourceMethodInfo info;
+    private final Timer timer;
+
+    /**
+     * Create metric.
+     *
+     * @param type  installed resource class
+     * @param info  resource method info
+     * @param timer method execution timer
+     */
+    public ResourceMethodMetric(final Class<?> type, final ResourceMethodInfo info, final Timer timer) {
+        this.type = type;
+        this.info = info;
+        this.timer = timer;
+    }
+
+    /**
+     * @return installed resource class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return resource method info (http method, path and annotated method)
+     */
+    public ResourceMethodInfo getInfo() {
+        return info;
+    }
+
+    /**
+     * @return resource method execution timer
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+}
@@ -3,17 +3,21 @@ package ru.vyarus.dropwizard.guice.module.jersey.support;
 import com.google.inject.Injector;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 
+import jakarta.inject.Provider;
 import java.util.function.Supplier;
 
 /**
  * Factory simply delegates object resolution to guice context. This allows to respect scopes.
  * But, more importantly, such "bridge" allows to bind guice type lazily.
+ * <p>
+ * Guice provider is resolved once (at binding time), so there is no binding lookup on each call
+ * (important for request scoped and prototype beans).
  *
  * @param <T> injection type
  */
 public class GuiceComponentFactory<T> implements Supplier<T> {
 
-    private final Injector injector;
+    private final Provider<T> provider;
     private final Class<T> type;
 
     /**
@@ -23,13 +27,23 @@ public class GuiceComponentFactory<T> implements Supplier<T> {
      * @param type     provided service type
      */
     public GuiceComponentFactory(final Injector injector, final Class<T> type) {
-        this.injector = injector;
+        this(injector.getProvider(type), type);
+    }
+
+    /**
+     * Create factory.
+     *
+     * @param provider guice provider
+     * @param type     provided service type
+     */
+    public GuiceComponentFactory(final Provider<T> provider, final Class<T> type) {
+        this.provider = provider;
         this.type = type;
     }
 
     @Override
     public T get() {
-        return injector.getInstance(type);
+        return provider.get();
     }
 
     @Override
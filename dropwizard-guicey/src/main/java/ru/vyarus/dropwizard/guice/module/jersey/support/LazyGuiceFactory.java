@@ -3,6 +3,7 @@ package ru.vyarus.dropwizard.guice.module.jersey.support;
 import com.google.inject.Injector;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 
+import jakarta.inject.Provider;
 import java.util.function.Supplier;
 
 /**
@@ -10,12 +11,14 @@ import java.util.function.Supplier;
  * For example, if HK2 context is just starting and referenced guice bean depends on some HK2 bean,
  * we can't instantiate guice bean. This moves guice bean creation into HK2 init phase (when HK2 pre-init some
  * factories) or even further (first usage).
+ * <p>
+ * Only guice provider is resolved at binding time (no instance creation), so factory bean is still created lazily.
  *
  * @param <T> injection type
  */
 public class LazyGuiceFactory<T> implements Supplier<T> {
 
-    private final Injector injector;
+    private final Provider<Supplier<T>> provider;
     private final Class<Supplier<T>> type;
 
     /**
@@ -25,13 +28,23 @@ public class LazyGuiceFactory<T> implements Supplier<T> {
      * @param type     original factory
      */
     public LazyGuiceFactory(final Injector injector, final Class<Supplier<T>> type) {
-        this.injector = injector;
+        this(injector.getProvider(type), type);
+    }
+
+    /**
+     * Create factory.
+     *
+     * @param provider original factory guice provider
+     * @param type     original factory
+     */
+    public LazyGuiceFactory(final Provider<Supplier<T>> provider, final Class<Supplier<T>> type) {
+        this.provider = provider;
         this.type = type;
     }
 
     @Override
     public T get() {
-        return injector.getInstance(type).get();
+        return provider.get().get();
     }
 
     @Override
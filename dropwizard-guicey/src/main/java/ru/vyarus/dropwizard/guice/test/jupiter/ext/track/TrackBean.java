@@ -96,6 +96,14 @@ public @interface TrackBean {
      */
     int maxStringLength() default 30;
 
+    /**
+     * Limits count of stored tracks: when limit reached, the oldest tracks are removed (only the latest calls
+     * preserved). Useful for stress tests with many calls. Methods stats (timers) still count all calls.
+     *
+     * @return maximum count of stored tracks (0 for unlimited)
+     */
+    int maxTracks() default 0;
+
     /**
      * Note: tracker could be cleared manually with {@link ru.vyarus.dropwizard.guice.test.track.Tracker#clear()}.
      *
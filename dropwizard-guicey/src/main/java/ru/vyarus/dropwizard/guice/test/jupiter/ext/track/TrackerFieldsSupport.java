@@ -69,6 +69,7 @@ public class TrackerFieldsSupport extends AnnotatedTestFieldSetup<TrackBean, Tra
                 .slowMethods(ann.slowMethods(), ann.slowMethodsUnit())
                 .keepRawObjects(ann.keepRawObjects())
                 .maxStringLength(ann.maxStringLength())
+                .maxTracks(ann.maxTracks())
                 .add();
         field.setCustomData(FIELD_TRACKER, tracker);
 
@@ -0,0 +1,103 @@
+package ru.vyarus.dropwizard.guice.test.track;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free tracks storage for {@link Tracker}. Tracks are appended without sorting (called methods could finish
+ * in different order than started) and sorted by start time lazily on read. Sorted snapshot is cached until
+ * the next track addition.
+ * <p>
+ * When limit specified, buffer works as a ring: only the latest (limit) tracks are preserved.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class TrackBuffer {
+
+    private final int limit;
+    // ring positions
+    private final AtomicLong position = new AtomicLong();
+    // total recorded tracks count (including overwritten), incremented after track write
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<MethodTrack> unbounded;
+    private final AtomicReferenceArray<MethodTrack> ring;
+    private volatile Snapshot snapshot = new Snapshot(0, Collections.emptyList());
+
+    /**
+     * Create buffer.
+     *
+     * @param limit maximum tracks to keep (0 for unlimited)
+     */
+    TrackBuffer(final int limit) {
+        this.limit = limit;
+        this.unbounded = limit > 0 ? null : new ConcurrentLinkedQueue<>();
+        this.ring = limit > 0 ? new AtomicReferenceArray<>(limit) : null;
+    }
+
+    /**
+     * @param track track to add
+     */
+    void add(final MethodTrack track) {
+        if (ring == null) {
+            unbounded.add(track);
+        } else {
+            ring.set((int) (position.getAndIncrement() % limit), track);
+        }
+        sequence.incrementAndGet();
+    }
+
+    /**
+     * @return total count of recorded tracks (including tracks removed due to limit)
+     */
+    long getRecorded() {
+        return sequence.get();
+    }
+
+    /**
+     * @return tracks sorted by start time (immutable list)
+     */
+    List<MethodTrack> getTracks() {
+        final long version = sequence.get();
+        Snapshot res = snapshot;
+        if (res.version != version) {
+            final List<MethodTrack> tracks;
+            if (ring == null) {
+                tracks = new ArrayList<>(unbounded);
+            } else {
+                tracks = new ArrayList<>(limit);
+                for (int i = 0; i < limit; i++) {
+                    final MethodTrack track = ring.get(i);
+                    // slot might be reserved, but not written yet
+                    if (track != null) {
+                        tracks.add(track);
+                    }
+                }
+            }
+            // sort to order tracks according to START TIME and not by the end time, as they add here
+            // (important for getLastTracks feature)
+            Collections.sort(tracks);
+            res = new Snapshot(version, Collections.unmodifiableList(tracks));
+            snapshot = res;
+        }
+        return res.tracks;
+    }
+
+    /**
+     * Sorted tracks with buffer state version.
+     */
+    private static class Snapshot {
+        private final long version;
+        private final List<MethodTrack> tracks;
+
+        Snapshot(final long version, final List<MethodTrack> tracks) {
+            this.version = version;
+            this.tracks = tracks;
+        }
+    }
+}
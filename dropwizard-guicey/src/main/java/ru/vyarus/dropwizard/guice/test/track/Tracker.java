@@ -23,11 +23,9 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,6 +39,9 @@ import java.util.stream.Collectors;
  * Tracked methods filtering implemented with mockito: {@link #findTracks(java.util.function.Function)}.
  * <p>
  * By default, recorded tracks cleared after each test.
+ * <p>
+ * Tracks registration is lock-free (tracked bean calls are not serialized), so tracker could be used for
+ * concurrent calls. Use {@link TrackerConfig#getMaxTracks()} to limit memory for long-running stress tests.
  *
  * @param <T> bean type
  * @author Vyacheslav Rusakov
@@ -53,8 +54,8 @@ public class Tracker<T> {
     private final Class<T> type;
     private final TrackerConfig config;
     private final Duration warn;
-    private final List<MethodTrack> tracks = new CopyOnWriteArrayList<>();
     private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private volatile TrackBuffer tracks;
 
     private MetricRegistry metrics;
     private Object innerMock;
@@ -75,6 +76,7 @@ public class Tracker<T> {
         this.warn = config.getSlowMethods() > 0
                 ? Duration.of(config.getSlowMethods(), config.getSlowMethodsUnit()) : null;
         this.metrics = metrics;
+        this.tracks = new TrackBuffer(config.getMaxTracks());
     }
 
     /**
@@ -88,14 +90,23 @@ public class Tracker<T> {
      * @return true if no method calls registered, false otherwise
      */
     public boolean isEmpty() {
-        return tracks.isEmpty();
+        return tracks.getRecorded() == 0;
     }
 
     /**
-     * @return count of tracked methods
+     * @return count of tracked methods (could be less than recorded calls when tracks limit configured)
      */
     public int size() {
-        return tracks.size();
+        return tracks.getTracks().size();
+    }
+
+    /**
+     * When tracks limit configured ({@link TrackerConfig#getMaxTracks()}), only the latest tracks are preserved.
+     *
+     * @return count of all recorded method calls (including removed tracks)
+     */
+    public long getRecordedCount() {
+        return tracks.getRecorded();
     }
 
     /**
@@ -104,7 +115,7 @@ public class Tracker<T> {
      * @return all tracked method calls
      */
     public List<MethodTrack> getTracks() {
-        return new ArrayList<>(tracks);
+        return new ArrayList<>(tracks.getTracks());
     }
 
     /**
@@ -113,8 +124,9 @@ public class Tracker<T> {
      *                                         checks required in test)
      */
     public MethodTrack getLastTrack() {
-        Preconditions.checkState(!tracks.isEmpty(), "No tracks registered");
-        return tracks.get(tracks.size() - 1);
+        final List<MethodTrack> res = tracks.getTracks();
+        Preconditions.checkState(!res.isEmpty(), "No tracks registered");
+        return res.get(res.size() - 1);
     }
 
     /**
@@ -125,9 +137,10 @@ public class Tracker<T> {
      * @throws java.lang.IllegalStateException if there is not enough recorded tracks
      */
     public List<MethodTrack> getLastTracks(final int count) {
-        Preconditions.checkState(tracks.size() >= count,
-                "Not enough tracks registered: requested %s but only %s registered", count, tracks.size());
-        return tracks.subList(tracks.size() - count, tracks.size());
+        final List<MethodTrack> res = tracks.getTracks();
+        Preconditions.checkState(res.size() >= count,
+                "Not enough tracks registered: requested %s but only %s registered", count, res.size());
+        return res.subList(res.size() - count, res.size());
     }
 
     /**
@@ -137,7 +150,7 @@ public class Tracker<T> {
      * @return stats for all tracked methods (for reporting)
      */
     public TrackerStats getStats() {
-        return new TrackerStats(tracks);
+        return new TrackerStats(tracks.getTracks());
     }
 
     /**
@@ -158,7 +171,7 @@ public class Tracker<T> {
                     .readDeclaredField(invocationContainer, "invocationForStubbing", true);
 
             final List<MethodTrack> result = new ArrayList<>();
-            for (final MethodTrack track : tracks) {
+            for (final MethodTrack track : tracks.getTracks()) {
                 if (matcher.matches(from(track))) {
                     result.add(track);
                 }
@@ -178,7 +191,7 @@ public class Tracker<T> {
      * Cleanup recorded tracks. By default, called automatically after each test method.
      */
     public void clear() {
-        tracks.clear();
+        tracks = new TrackBuffer(config.getMaxTracks());
         timers.clear();
         metrics = new MetricRegistry();
     }
@@ -201,12 +214,8 @@ public class Tracker<T> {
                 arguments,
                 config.isKeepRawObjects() ? rawResult : null,
                 result, throwable, stringMarkers, timer);
-        synchronized (tracks) {
-            tracks.add(track);
-            // sort to order tracks according to START TIME and not by the end time, as they add here
-            // (important for getLastTracks feature)
-            Collections.sort(tracks);
-        }
+        // tracks sorted by start time lazily (on read)
+        tracks.add(track);
         if (config.isTrace() || (warn != null && duration.compareTo(warn) > 0)) {
             final String msg = "\\\\\\---[Tracker<" + type.getSimpleName() + ">]"
                     + String.format(" %-12s <@%s> .%s",
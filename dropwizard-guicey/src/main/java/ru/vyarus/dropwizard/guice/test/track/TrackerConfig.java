@@ -15,6 +15,7 @@ public class TrackerConfig {
     private ChronoUnit slowMethodsUnit = ChronoUnit.SECONDS;
     private boolean keepRawObjects = true;
     private int maxStringLength = 30;
+    private int maxTracks;
 
     /**
      * When enabled, prints called method just after it's execution (with called arguments and returned result).
@@ -106,4 +107,22 @@ public class TrackerConfig {
     public void setMaxStringLength(final int maxStringLength) {
         this.maxStringLength = maxStringLength;
     }
+
+    /**
+     * Limits count of stored tracks: when limit reached, the oldest tracks are removed (only the latest calls
+     * preserved). Useful for stress tests with many calls. Methods stats (timers) still count all calls.
+     * Unlimited by default (0).
+     *
+     * @return maximum count of stored tracks (0 for unlimited)
+     */
+    public int getMaxTracks() {
+        return maxTracks;
+    }
+
+    /**
+     * @param maxTracks maximum count of stored tracks (0 for unlimited)
+     */
+    public void setMaxTracks(final int maxTracks) {
+        this.maxTracks = maxTracks;
+    }
 }
@@ -41,7 +41,7 @@ public class TrackerProxy<T> implements MethodInterceptor {
     }
 
     @Override
-    public synchronized Object invoke(final MethodInvocation methodInvocation) throws Throwable {
+    public Object invoke(final MethodInvocation methodInvocation) throws Throwable {
         final long start = System.currentTimeMillis();
         final Stopwatch timer = Stopwatch.createStarted();
         // objects might be changed after or during method execution
@@ -183,6 +183,18 @@ public class TrackersHook implements GuiceyConfigurationHook {
             return this;
         }
 
+        /**
+         * Limits count of stored tracks: when limit reached, the oldest tracks are removed (only the latest calls
+         * preserved). Useful for stress tests with many calls. Methods stats (timers) still count all calls.
+         *
+         * @param maxTracks maximum count of stored tracks (0 for unlimited)
+         * @return builder instance for chained calls
+         */
+        public Builder<T> maxTracks(final int maxTracks) {
+            config.setMaxTracks(maxTracks);
+            return this;
+        }
+
         /**
          * Apply tracker registration. Returned object should be used to access recorded tracks.
          *
@@ -0,0 +1,103 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.debug.GuiceProvisionDiagnostic
+import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.BackgroundEagerInitializer
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class BackgroundEagerSingletonTest extends Specification {
+
+    static GuiceProvisionDiagnostic provisions = new GuiceProvisionDiagnostic(false)
+    static CountDownLatch latch = new CountDownLatch(1)
+
+    @Inject
+    Environment environment
+    @Inject
+    Injector injector
+
+    def "Check background eager singletons"() {
+
+        setup:
+        BackgroundEagerInitializer initializer = SharedConfigurationState
+                .lookup(environment, BackgroundEagerInitializer).get()
+
+        expect: "normal eager singleton created during startup"
+        Normal.created
+
+        and: "background bean creation in progress"
+        !initializer.completed
+        !environment.healthChecks().runHealthCheck(BackgroundEagerInitializer.HEALTH_CHECK).healthy
+
+        when: "allow background beans creation"
+        latch.countDown()
+        initializer.awaitCompletion(5, TimeUnit.SECONDS)
+
+        then: "beans created"
+        initializer.completed
+        initializer.times.keySet() == [Slow, Fast] as Set
+        initializer.errors.isEmpty()
+        environment.healthChecks().runHealthCheck(BackgroundEagerInitializer.HEALTH_CHECK).healthy
+
+        and: "bound as singleton"
+        injector.getInstance(Slow).is(injector.getInstance(Slow))
+        Slow.instances == 1
+
+        and: "creation time in provision report"
+        provisions.recordedData.keySet().any { it.key.typeLiteral.rawType == Slow }
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(InstallersOptions.BackgroundEagerSingletonsThreads, 2)
+                    .extensions(Normal, Slow, Fast)
+                    .bundles(provisions)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @EagerSingleton
+    static class Normal {
+        static boolean created
+
+        Normal() {
+            created = true
+        }
+    }
+
+    @EagerSingleton(background = true)
+    static class Slow {
+        static int instances
+
+        Slow() {
+            latch.await(5, TimeUnit.SECONDS)
+            instances++
+        }
+    }
+
+    @EagerSingleton(background = true)
+    static class Fast {}
+}
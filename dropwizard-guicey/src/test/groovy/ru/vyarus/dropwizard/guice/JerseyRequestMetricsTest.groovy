@@ -0,0 +1,113 @@
+package ru.vyarus.dropwizard.guice
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.debug.report.jersey.JerseyMetricsRenderer
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyRequestMetrics
+import ru.vyarus.dropwizard.guice.test.ClientSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.POST
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.PathParam
+import jakarta.ws.rs.container.ContainerRequestContext
+import jakarta.ws.rs.container.ContainerRequestFilter
+import jakarta.ws.rs.client.Entity
+import jakarta.ws.rs.ext.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(App)
+class JerseyRequestMetricsTest extends Specification {
+
+    @Inject
+    JerseyRequestMetrics metrics
+    @Inject
+    MetricRegistry registry
+
+    def "Check jersey request metrics"(ClientSupport client) {
+
+        when: "calling resource"
+        client.targetApp("/metrics/foo").request().get(String)
+        client.targetApp("/metrics/foo").request().get(String)
+        client.targetApp("/metrics/bar/12").request().get(String)
+        client.targetApp("/metrics/bar/12").request().post(Entity.text("body"), String)
+
+        then: "metrics prepared on installation"
+        metrics.resourceMethods.collect { it.info.httpMethod + ' ' + it.info.fullPath } as Set ==
+                ['GET /metrics/foo', 'GET /metrics/bar/{id}', 'POST /metrics/bar/{id}'] as Set
+        metrics.providers*.type == [Filter]
+
+        and: "requests measured"
+        metrics.resourceMethods.find { it.info.method.name == 'foo' }.timer.count == 2
+        metrics.resourceMethods.findAll { it.info.method.name == 'bar' }*.timer*.count == [1, 1]
+        metrics.resourceMethods.findAll { it.info.method.name == 'bar' }*.timer.unique().size() == 2
+        def prefix = 'guicey.jersey.' + Resource.name
+        registry.timer(prefix + '.foo').count == 2
+        registry.timer(prefix + '.bar.GET_String').count == 1
+        registry.timer(prefix + '.bar.POST_String_String').count == 1
+        registry.timers.keySet().findAll { it.startsWith(prefix) } as Set ==
+                [prefix + '.foo', prefix + '.bar.GET_String', prefix + '.bar.POST_String_String'] as Set
+        metrics.requestFiltersTimer.count == 4
+        metrics.responseFiltersTimer.count == 4
+        metrics.providers[0].calls.count == 4
+
+        and: "report rendered"
+        def report = new JerseyMetricsRenderer(metrics).renderReport(null)
+        report.contains('GET     /metrics/foo')
+        report.contains('Resource#foo')
+        report.contains('Filter (ContainerRequestFilter)')
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Resource, Filter)
+                    .printJerseyRequestMetrics()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/metrics")
+    static class Resource {
+
+        @GET
+        @Path("/foo")
+        String foo() {
+            return "foo"
+        }
+
+        @GET
+        @Path("/bar/{id}")
+        String bar(@PathParam("id") String id) {
+            return id
+        }
+
+        @POST
+        @Path("/bar/{id}")
+        String bar(@PathParam("id") String id, String body) {
+            return id + body
+        }
+    }
+
+    @Provider
+    static class Filter implements ContainerRequestFilter {
+        @Override
+        void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
+}
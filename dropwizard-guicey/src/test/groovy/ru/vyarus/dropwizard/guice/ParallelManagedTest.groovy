@@ -0,0 +1,221 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ManagedGroup
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManaged
+import ru.vyarus.dropwizard.guice.module.installer.order.Order
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelManagedTest extends AbstractTest {
+
+    static List<String> events = new CopyOnWriteArrayList<>()
+
+    void setup() {
+        events.clear()
+    }
+
+    def "Check parallel managed start and stop"() {
+
+        when: "running app"
+        TestSupport.runCoreApp(App)
+
+        then: "parallel objects started concurrently"
+        events.indexOf("Par2 start") < events.indexOf("Par1 started")
+        events.indexOf("Par1 started") < events.indexOf("Seq start")
+        events.indexOf("Par2 started") < events.indexOf("Seq start")
+
+        and: "order respected"
+        events.indexOf("First started") < events.indexOf("Par1 start")
+        events.indexOf("First started") < events.indexOf("Par2 start")
+
+        and: "parallel objects stopped concurrently"
+        events.indexOf("Par2 stop") < events.indexOf("Par1 stopped")
+        events.indexOf("Seq stopped") < events.indexOf("Par1 stop")
+        events.indexOf("Par1 stopped") < events.indexOf("First stop")
+    }
+
+    def "Check group times"() {
+
+        setup: "group"
+        ManagedGroup group = new ManagedGroup(1)
+        group.add(new Par1(), 10)
+        group.add(new Par2(), 5)
+
+        when: "starting group"
+        long start = System.currentTimeMillis()
+        group.start()
+        long time = System.currentTimeMillis() - start
+
+        then: "started concurrently"
+        time < 400
+        group.timeout == 10
+        group.startTimes.keySet() as List == [Par1, Par2]
+        group.startTimes.values().every { it.toMillis() >= 200 }
+        group.stopTimes.isEmpty()
+
+        when: "stopping group"
+        group.stop()
+
+        then: "stop times recorded"
+        group.stopTimes.keySet() as List == [Par1, Par2]
+    }
+
+    def "Check group timeout"() {
+
+        setup: "group"
+        ManagedGroup group = new ManagedGroup(1)
+        group.add(new Par1(), 1)
+        group.add(new Hanging(), 1)
+
+        when: "starting group"
+        group.start()
+
+        then: "timeout"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Managed objects start not completed in 1 s: Hanging"
+    }
+
+    def "Check group errors"() {
+
+        setup: "group"
+        ManagedGroup group = new ManagedGroup(1)
+        group.add(new Par1(), 1)
+        group.add(new Failing(), 1)
+
+        when: "starting group"
+        group.start()
+
+        then: "error propagated as is"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Start failed"
+
+        when: "multiple errors"
+        group = new ManagedGroup(1)
+        group.add(new Failing(), 1)
+        group.add(new Failing2(), 1)
+        group.start()
+
+        then: "errors aggregated"
+        ex = thrown(IllegalStateException)
+        ex.message == "2 managed objects start failed: Start failed; Start failed"
+        ex.suppressed.length == 1
+    }
+
+    def "Check started members stopped on group start failure"() {
+
+        setup: "group"
+        ManagedGroup group = new ManagedGroup(1)
+        group.add(new Par1(), 1)
+        group.add(new Failing(), 1)
+        group.add(new Par2(), 1)
+
+        when: "starting group"
+        group.start()
+
+        then: "error propagated"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Start failed"
+
+        and: "started members stopped"
+        events.containsAll(["Par1 stopped", "Par2 stopped"])
+        group.startTimes.keySet() as List == [Par1, Par2]
+
+        when: "stop failure on rollback"
+        events.clear()
+        group = new ManagedGroup(1)
+        group.add(new FailingStop(), 1)
+        group.add(new Failing(), 1)
+        group.start()
+
+        then: "stop error suppressed"
+        ex = thrown(IllegalArgumentException)
+        ex.message == "Start failed"
+        ex.suppressed.length == 1
+        ex.suppressed[0].message == "Stop failed"
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Par1, Seq, Par2, First)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class Tracked implements Managed {
+
+        @Override
+        void start() throws Exception {
+            String name = getClass().simpleName
+            events.add(name + " start")
+            Thread.sleep(200)
+            events.add(name + " started")
+        }
+
+        @Override
+        void stop() throws Exception {
+            String name = getClass().simpleName
+            events.add(name + " stop")
+            Thread.sleep(200)
+            events.add(name + " stopped")
+        }
+    }
+
+    @Order(1)
+    @ParallelManaged
+    static class Par1 extends Tracked {}
+
+    @Order(1)
+    @ParallelManaged
+    static class Par2 extends Tracked {}
+
+    @Order(2)
+    static class Seq extends Tracked {}
+
+    @Order(0)
+    @ParallelManaged
+    static class First extends Tracked {}
+
+    @ParallelManaged(timeout = 1)
+    static class Hanging implements Managed {
+        @Override
+        void start() throws Exception {
+            Thread.sleep(5000)
+        }
+    }
+
+    @ParallelManaged
+    static class Failing implements Managed {
+        @Override
+        void start() throws Exception {
+            throw new IllegalArgumentException("Start failed")
+        }
+    }
+
+    @ParallelManaged
+    static class Failing2 extends Failing {}
+
+    @ParallelManaged
+    static class FailingStop implements Managed {
+        @Override
+        void stop() throws Exception {
+            throw new IllegalStateException("Stop failed")
+        }
+    }
+}
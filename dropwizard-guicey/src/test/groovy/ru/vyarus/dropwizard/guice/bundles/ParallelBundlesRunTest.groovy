@@ -0,0 +1,245 @@
+package ru.vyarus.dropwizard.guice.bundles
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelGuiceyBundle
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelBundlesRunTest extends AbstractTest {
+
+    static List<String> events = new CopyOnWriteArrayList<>()
+
+    void setup() {
+        events.clear()
+    }
+
+    def "Check parallel bundles run"() {
+
+        when: "starting app"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(App).getBean(GuiceyConfigurationInfo)
+
+        then: "dependencies respected"
+        events.indexOf("Slow1 end") < events.indexOf("Dependent start")
+        events.indexOf("Slow1 end") < events.indexOf("Barrier start")
+        events.indexOf("Slow2 end") < events.indexOf("Barrier start")
+        events.indexOf("Dependent end") < events.indexOf("Barrier start")
+        events.indexOf("Barrier end") < events.indexOf("Last start")
+
+        and: "slow bundles run concurrently"
+        events.indexOf("Slow2 start") < events.indexOf("Slow1 end")
+
+        and: "all bundles run time recorded"
+        Map<Class<?>, Duration> times = info.stats.getDetailedStats(DetailStat.BundleRun)
+        [Slow1, Slow2, Dependent, Barrier, Last].every { times.containsKey(it) }
+
+        and: "critical path computed"
+        Duration path = info.stats.bundlesRunCriticalPath
+        path != null
+        path.toMillis() >= 400
+        path < times[Slow1] + times[Slow2] + times[Dependent]
+    }
+
+    def "Check sequential run by default"() {
+
+        when: "starting app without threads option"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(SequentialApp).getBean(GuiceyConfigurationInfo)
+
+        then: "bundles run sequentially"
+        events == ["Slow1 start", "Slow1 end", "Slow2 start", "Slow2 end"]
+        info.stats.bundlesRunCriticalPath == null
+    }
+
+    def "Check dependencies cycle detection"() {
+
+        when: "starting app with cycle"
+        TestSupport.runCoreApp(CycleApp)
+
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Guicey bundles run dependencies cycle: CycleA -> CycleB -> CycleA"
+        events.isEmpty()
+    }
+
+    def "Check dependency on bundle run later"() {
+
+        when: "starting app with incorrect dependency"
+        TestSupport.runCoreApp(LaterApp)
+
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Guicey bundle Dependent could not be run after Slow1: it would be run later " +
+                "(after not parallel bundle)"
+    }
+
+    def "Check parallel bundle failure"() {
+
+        when: "starting app with failing bundle"
+        TestSupport.runCoreApp(FailApp)
+
+        then: "error propagated"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Bundle failed"
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.BundlesRunThreads, 4)
+                    .bundles(new Dependent(), new Slow1(), new Slow2(), new Barrier(), new Last())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class SequentialApp extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new Slow1(), new Slow2())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class CycleApp extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.BundlesRunThreads, 2)
+                    .bundles(new CycleA(), new CycleB())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class LaterApp extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.BundlesRunThreads, 2)
+                    .bundles(new Dependent(), new Barrier(), new Slow1())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class FailApp extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.BundlesRunThreads, 2)
+                    .bundles(new Slow1(), new Failing())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class Tracked implements ParallelGuiceyBundle {
+
+        long sleep() {
+            return 0
+        }
+
+        @Override
+        void run(GuiceyEnvironment environment) throws Exception {
+            String name = getClass().simpleName
+            events.add(name + " start")
+            Thread.sleep(sleep())
+            events.add(name + " end")
+        }
+    }
+
+    static class Slow1 extends Tracked {
+        @Override
+        long sleep() {
+            return 300
+        }
+    }
+
+    static class Slow2 extends Tracked {
+        @Override
+        long sleep() {
+            return 300
+        }
+    }
+
+    static class Dependent extends Tracked {
+        @Override
+        long sleep() {
+            return 100
+        }
+
+        @Override
+        List<Class<? extends GuiceyBundle>> runAfter() {
+            return [Slow1]
+        }
+    }
+
+    static class Barrier implements GuiceyBundle {
+        @Override
+        void run(GuiceyEnvironment environment) throws Exception {
+            events.add("Barrier start")
+            events.add("Barrier end")
+        }
+    }
+
+    static class Last extends Tracked {}
+
+    static class CycleA extends Tracked {
+        @Override
+        List<Class<? extends GuiceyBundle>> runAfter() {
+            return [CycleB]
+        }
+    }
+
+    static class CycleB extends Tracked {
+        @Override
+        List<Class<? extends GuiceyBundle>> runAfter() {
+            return [CycleA]
+        }
+    }
+
+    static class Failing extends Tracked {
+        @Override
+        void run(GuiceyEnvironment environment) throws Exception {
+            throw new IllegalArgumentException("Bundle failed")
+        }
+    }
+}
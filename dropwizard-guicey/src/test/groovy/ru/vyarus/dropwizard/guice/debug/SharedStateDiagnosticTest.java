@@ -183,6 +183,7 @@ public class SharedStateDiagnosticTest extends AbstractPlatformTest {
                 "\t\tGET  at r.v.d.g.d.SharedStateDiagnosticTest.(SharedStateDiagnosticTest.java:118)\n" +
                 "\n" +
                 "\tSET Stack (java.util)                                                               \t at r.v.d.g.d.SharedStateDiagnosticTest.(SharedStateDiagnosticTest.java:119)\n" +
+                "\tSET ModuleElementsSnapshot (ru.vyarus.dropwizard.guice.module.context)              \t at r.v.d.g.m.i.internal.(ModulesSupport.java:106)\n" +
                 "\n" +
                 "\tSET Module (com.google.inject)                                                      \t at r.v.d.g.d.SharedStateDiagnosticTest.(SharedStateDiagnosticTest.java:133)\n" +
                 "\t\tMISS at r.v.d.g.d.SharedStateDiagnosticTest.(SharedStateDiagnosticTest.java:129)\n" +
@@ -49,6 +49,9 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ParallelClasspathScan          = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
@@ -84,6 +87,9 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ParallelClasspathScan          = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
@@ -138,6 +144,9 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ParallelClasspathScan          = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
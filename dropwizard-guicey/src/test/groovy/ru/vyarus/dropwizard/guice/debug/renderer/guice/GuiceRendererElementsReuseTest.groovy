@@ -0,0 +1,98 @@
+package ru.vyarus.dropwizard.guice.debug.renderer.guice
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.bundle.lookup.PropertyBundleLookup
+import ru.vyarus.dropwizard.guice.debug.renderer.guice.support.OverrideModule
+import ru.vyarus.dropwizard.guice.debug.report.guice.GuiceBindingsRenderer
+import ru.vyarus.dropwizard.guice.debug.report.guice.GuiceConfig
+import ru.vyarus.dropwizard.guice.debug.report.stat.StatsRenderer
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.ModuleElementsSnapshot
+import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class GuiceRendererElementsReuseTest extends Specification {
+
+    static {
+        System.clearProperty(PropertyBundleLookup.BUNDLES_PROPERTY)
+    }
+
+    @Inject
+    Injector injector
+    @Inject
+    Environment environment
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check module elements recorded once for all reports"() {
+
+        setup:
+        ModuleElementsSnapshot snapshot = SharedConfigurationState
+                .lookup(environment, ModuleElementsSnapshot).get()
+
+        expect: "startup reports reused analysis elements"
+        CountingModule.calls == 1
+        snapshot.reusesCount == 2
+        info.stats.count(Stat.BindingsReuseCount) == 2
+
+        and: "reuse shown in stats"
+        new StatsRenderer(info).renderReport(false).contains("elements reused 2 times by reports")
+
+        and: "elements released after startup"
+        snapshot.released
+        !snapshot.analyzedElementsAvailable
+
+        when: "rendering report after startup"
+        String bindings = new GuiceBindingsRenderer(injector).renderReport(new GuiceConfig())
+
+        then: "modules recorded on demand"
+        CountingModule.calls == 2
+        bindings.contains("CountingModule")
+        bindings.contains("OverrideModule")
+        snapshot.reusesCount == 2
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new CountingModule())
+                    .modulesOverride(new OverrideModule())
+                    .printGuiceBindings()
+                    .printGuiceAopMap()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class CountingModule extends AbstractModule {
+        static int calls
+
+        @Override
+        protected void configure() {
+            calls++
+            bind(Service)
+        }
+    }
+
+    static class Service {}
+}
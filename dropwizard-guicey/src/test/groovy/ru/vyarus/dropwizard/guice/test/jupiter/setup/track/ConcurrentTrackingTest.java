@@ -0,0 +1,77 @@
+package ru.vyarus.dropwizard.guice.test.jupiter.setup.track;
+
+import com.google.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.dropwizard.guice.support.DefaultTestApp;
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp;
+import ru.vyarus.dropwizard.guice.test.jupiter.ext.track.TrackBean;
+import ru.vyarus.dropwizard.guice.test.track.MethodTrack;
+import ru.vyarus.dropwizard.guice.test.track.Tracker;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(DefaultTestApp.class)
+public class ConcurrentTrackingTest {
+
+    @Inject
+    Service service;
+
+    @TrackBean(maxTracks = 100)
+    Tracker<Service> limited;
+
+    @Inject
+    Service2 service2;
+
+    @TrackBean(keepRawObjects = false)
+    Tracker<Service2> unlimited;
+
+    @Test
+    void testConcurrentCalls() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            final int arg = i;
+            executor.submit(() -> service.foo(arg));
+            executor.submit(() -> service2.foo(arg));
+        }
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(unlimited.size()).isEqualTo(1000);
+        Assertions.assertThat(unlimited.getRecordedCount()).isEqualTo(1000);
+        assertSorted(unlimited.getTracks());
+
+        // only the latest tracks preserved
+        Assertions.assertThat(limited.size()).isEqualTo(100);
+        Assertions.assertThat(limited.getRecordedCount()).isEqualTo(1000);
+        Assertions.assertThat(limited.getLastTracks(10)).hasSize(10);
+        assertSorted(limited.getTracks());
+        // timer counts all calls
+        Assertions.assertThat(limited.getLastTrack().getTimer().getCount()).isEqualTo(1000);
+    }
+
+    private void assertSorted(final List<MethodTrack> tracks) {
+        for (int i = 1; i < tracks.size(); i++) {
+            Assertions.assertThat(tracks.get(i - 1).getStarted()).isLessThanOrEqualTo(tracks.get(i).getStarted());
+        }
+    }
+
+    public static class Service {
+        public String foo(int in) {
+            return "foo" + in;
+        }
+    }
+
+    public static class Service2 {
+        public String foo(int in) {
+            return "foo" + in;
+        }
+    }
+}
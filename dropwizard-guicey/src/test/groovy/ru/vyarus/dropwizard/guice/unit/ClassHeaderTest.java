@@ -0,0 +1,108 @@
+package ru.vyarus.dropwizard.guice.unit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassHeader;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ClassHeaderTest {
+
+    public static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+
+    @Test
+    void testModifiers() {
+        for (Class<?> type : Arrays.asList(ClassHeaderTest.class, Static.class, Inner.class, Protected.class,
+                PackagePrivate.class, Abstract.class, Iface.class, Invisible.class, InheritedInvisible.class)) {
+            final ClassHeader header = header(type);
+            Assertions.assertEquals(type.getName(), header.getName());
+            Assertions.assertEquals(type.getModifiers(), header.getModifiers(), type.getName());
+        }
+        Assertions.assertEquals(new Object() {}.getClass().getModifiers(),
+                header(new Object() {}.getClass()).getModifiers());
+    }
+
+    @Test
+    void testInner() {
+        Assertions.assertFalse(header(ClassHeaderTest.class).isInner());
+        Assertions.assertFalse(header(Static.class).isInner());
+        Assertions.assertFalse(header(Iface.class).isInner());
+        Assertions.assertTrue(header(Inner.class).isInner());
+        Assertions.assertTrue(header(new Object() {}.getClass()).isInner());
+    }
+
+    @Test
+    void testInvisible() {
+        Assertions.assertFalse(header(Static.class).isInvisible());
+        Assertions.assertTrue(header(Invisible.class).isInvisible());
+        // inherited annotation is not visible in header
+        Assertions.assertFalse(header(InheritedInvisible.class).isInvisible());
+    }
+
+    @Test
+    void testNoInitialization() throws Exception {
+        final List<Class<?>> res = OReflectionHelper.loadClasses(
+                Collections.singletonList(WithInitializer.class.getName()), getClass().getClassLoader(), false);
+        Assertions.assertEquals(Collections.singletonList(WithInitializer.class), res);
+        Assertions.assertFalse(INITIALIZED.get());
+    }
+
+    @Test
+    void testHeaderFilter() throws Exception {
+        final List<Class<?>> res = OReflectionHelper.loadClasses(Arrays.asList(Static.class.getName(),
+                        Inner.class.getName(), Invisible.class.getName(), PackagePrivate.class.getName()),
+                getClass().getClassLoader(), false, header -> !header.isInner() && !header.isInvisible());
+        Assertions.assertEquals(Collections.singletonList(Static.class), res);
+    }
+
+    @Test
+    void testBrokenClassFile() {
+        Assertions.assertNull(ClassHeader.read(null));
+        Assertions.assertNull(ClassHeader.read(new java.io.ByteArrayInputStream(new byte[]{1, 2, 3})));
+    }
+
+    private ClassHeader header(final Class<?> type) {
+        return ClassHeader.read(type.getClassLoader()
+                .getResourceAsStream(type.getName().replace('.', '/') + ".class"));
+    }
+
+    public static class Static {
+    }
+
+    public class Inner {
+    }
+
+    protected static class Protected {
+    }
+
+    static class PackagePrivate {
+    }
+
+    public abstract static class Abstract {
+    }
+
+    public interface Iface {
+    }
+
+    @InvisibleForScanner
+    public static class Invisible {
+    }
+
+    public static class InheritedInvisible extends Invisible {
+    }
+
+    public static class WithInitializer {
+        static {
+            INITIALIZED.set(true);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import com.google.inject.Injector
+import com.google.inject.Provider
+import ru.vyarus.dropwizard.guice.module.jersey.support.GuiceComponentFactory
+import ru.vyarus.dropwizard.guice.module.jersey.support.LazyGuiceFactory
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class GuiceComponentFactoryTest extends Specification {
+
+    def "Check provider resolved once"() {
+
+        setup:
+        Injector injector = Mock(Injector)
+        Provider<Service> provider = Mock(Provider)
+
+        when: "create factory and call it multiple times"
+        def factory = new GuiceComponentFactory<>(injector, Service)
+        factory.get()
+        factory.get()
+        factory.get()
+
+        then: "provider resolved at creation and used for each call"
+        1 * injector.getProvider(Service) >> provider
+        3 * provider.get() >> new Service()
+        0 * injector.getInstance(_)
+    }
+
+    def "Check lazy factory provider resolved once"() {
+
+        setup:
+        Injector injector = Mock(Injector)
+        Provider<ServiceSupplier> provider = Mock(Provider)
+
+        when: "create factory and call it multiple times"
+        def factory = new LazyGuiceFactory<>(injector, ServiceSupplier)
+        def res = factory.get()
+        factory.get()
+
+        then: "provider resolved at creation and used for each call"
+        1 * injector.getProvider(ServiceSupplier) >> provider
+        2 * provider.get() >> new ServiceSupplier()
+        0 * injector.getInstance(_)
+        res instanceof Service
+    }
+
+    static class Service {}
+
+    static class ServiceSupplier implements Supplier<Service> {
+        @Override
+        Service get() {
+            return new Service()
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.unit
 
+import com.google.inject.Injector
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
 import ru.vyarus.dropwizard.guice.module.jersey.support.GuiceComponentFactory
 import ru.vyarus.dropwizard.guice.module.jersey.support.JerseyComponentProvider
@@ -15,8 +16,8 @@ class JesreySuppliersToStringTest extends Specification {
     def "Check factories to string"() {
 
         expect:
-        new GuiceComponentFactory<>(null, GuiceyBundle).toString() == "GuiceComponentFactory for GuiceyBundle"
-        new LazyGuiceFactory<>(null, GuiceyBundle).toString() == "LazyGuiceFactory for GuiceyBundle"
+        new GuiceComponentFactory<>(Mock(Injector), GuiceyBundle).toString() == "GuiceComponentFactory for GuiceyBundle"
+        new LazyGuiceFactory<>(Mock(Injector), GuiceyBundle).toString() == "LazyGuiceFactory for GuiceyBundle"
         new JerseyComponentProvider<>(null, GuiceyBundle).toString() == "JerseyComponentProvider for GuiceyBundle"
     }
 }
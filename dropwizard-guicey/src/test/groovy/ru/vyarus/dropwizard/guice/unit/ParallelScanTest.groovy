@@ -0,0 +1,69 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelScanTest extends Specification {
+
+    // directories and jar
+    Set<String> packages = ['ru.vyarus.dropwizard.guice.diagnostic', 'ru.vyarus.dropwizard.guice.cases',
+                            'io.dropwizard.core.cli'] as Set
+
+    def "Check parallel scan order"() {
+
+        when: "sequential scan"
+        StatsTracker seqTracker = new StatsTracker()
+        List<Class> sequential = scan(new ClasspathScanner(packages, false, false, false, seqTracker))
+
+        and: "parallel scan"
+        StatsTracker parTracker = new StatsTracker()
+        List<Class> parallel = scan(new ClasspathScanner(packages, false, false, true, parTracker))
+
+        then: "the same classes in the same order"
+        sequential.size() > 10
+        sequential == parallel
+        seqTracker.getCounters()[Stat.ScanClassesCount] == parTracker.getCounters()[Stat.ScanClassesCount]
+
+        and: "package times recorded"
+        new StatsInfo(parTracker).getPackageScanTimes().keySet() == packages
+        new StatsInfo(seqTracker).getPackageScanTimes().keySet() == packages
+    }
+
+    def "Check parallel package scan"() {
+
+        when: "scan package in parallel"
+        def loader = Thread.currentThread().contextClassLoader
+        List<Class<?>> res = new ForkJoinPool(4).submit({
+            OReflectionHelper.getClassesForParallel('ru.vyarus.dropwizard.guice.diagnostic', loader, false, { true })
+        } as Callable).join()
+
+        then: "same as sequential"
+        res == OReflectionHelper.getClassesFor('ru.vyarus.dropwizard.guice.diagnostic', loader, false, { true })
+
+        when: "scan jar package"
+        res = new ForkJoinPool(4).submit({
+            OReflectionHelper.getClassesForParallel('io.dropwizard.core.cli', loader, false, { true })
+        } as Callable).join()
+
+        then: "same as sequential"
+        res.size() == 6
+        res == OReflectionHelper.getClassesFor('io.dropwizard.core.cli', loader)
+    }
+
+    private List<Class> scan(ClasspathScanner scanner) {
+        List<Class> res = []
+        scanner.scan { res.add(it) }
+        return res
+    }
+}
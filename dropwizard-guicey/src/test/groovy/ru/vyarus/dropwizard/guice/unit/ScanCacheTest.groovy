@@ -0,0 +1,143 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.diagnostic.support.features.FooModule
+import ru.vyarus.dropwizard.guice.diagnostic.support.features.FooResource
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanCache
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ScanCacheTest extends Specification {
+
+    Path dir
+    Path file
+    Set<String> packages = [FooResource.package.name] as Set
+
+    void setup() {
+        dir = Files.createTempDirectory("guicey-cache")
+        file = dir.resolve("startup.cache")
+    }
+
+    void cleanup() {
+        dir.toFile().deleteDir()
+    }
+
+    def "Check scan cache"() {
+
+        when: "first scan"
+        ScanCache cache = ScanCache.load(file, "fp")
+        StatsTracker tracker = new StatsTracker()
+        List<Class> res = scan(new ClasspathScanner(packages, false, false, false, cache, tracker))
+        cache.save()
+        then: "scan performed and stored"
+        res.containsAll([FooResource, FooModule])
+        tracker.getCounters()[Stat.ScanFromCacheCount] == null
+        Files.exists(file)
+        cache.getScannedClasses() == res*.name
+
+        when: "second scan"
+        long modified = Files.getLastModifiedTime(file).toMillis()
+        cache = ScanCache.load(file, "fp")
+        def count = tracker.getCounters()[Stat.ScanClassesCount]
+        tracker = new StatsTracker()
+        List<Class> cached = scan(new ClasspathScanner(packages, false, false, false, cache, tracker))
+        cache.save()
+        then: "cache used"
+        cached == res
+        tracker.getCounters()[Stat.ScanFromCacheCount] == 1
+        tracker.getCounters()[Stat.ScanClassesCount] == count
+        Files.getLastModifiedTime(file).toMillis() == modified
+
+        when: "fingerprint changed"
+        cache = ScanCache.load(file, "other")
+        then: "cache invalidated"
+        cache.getScannedClasses() == null
+    }
+
+    def "Check recognition cache"() {
+
+        setup:
+        List<FeatureInstaller> installers = [new ResourceInstaller(), new ManagedInstaller()]
+
+        when: "first recognition"
+        ScanCache cache = ScanCache.load(file, "fp")
+        cache.useInstallers(installers, "opts")
+        ExtensionsHolder holder = new ExtensionsHolder(installers)
+        then: "recognized"
+        holder.acceptScanCandidate(FooResource, cache)
+        !holder.acceptScanCandidate(FooModule, cache)
+        holder.getCachedRecognitions() == 0
+        cache.isRecognized(FooResource)
+        cache.isRecognized(FooModule)
+
+        when: "cached recognition"
+        cache.save()
+        cache = ScanCache.load(file, "fp")
+        cache.useInstallers(installers, "opts")
+        holder = new ExtensionsHolder(installers)
+        then: "recognized from cache"
+        holder.acceptScanCandidate(FooResource, cache)
+        !holder.acceptScanCandidate(FooModule, cache)
+        holder.getCachedRecognitions() == 2
+        holder.getScanExtensions()[0].installer instanceof ResourceInstaller
+
+        when: "installers configuration changed"
+        cache.useInstallers(installers, "other")
+        then: "recognition cache invalidated"
+        !cache.isRecognized(FooResource)
+        !cache.isRecognized(FooModule)
+
+        when: "installers changed"
+        holder.acceptScanCandidate(FooResource, cache)
+        cache.useInstallers([new ManagedInstaller()], "other")
+        then: "recognition cache invalidated"
+        !cache.isRecognized(FooResource)
+        !cache.isRecognized(FooModule)
+    }
+
+    def "Check incomplete cache ignored"() {
+
+        setup:
+        ScanCache cache = ScanCache.load(file, "fp")
+        scan(new ClasspathScanner(packages, false, false, false, cache, new StatsTracker()))
+        cache.save()
+
+        expect: "cache file replaced atomically"
+        Files.list(dir).collect { it.fileName.toString() } == ["startup.cache"]
+
+        when: "cached classes list truncated"
+        Properties props = new Properties()
+        file.withInputStream { props.load(it) }
+        List<String> classes = props.getProperty("scan.classes").split(",") as List
+        props.setProperty("scan.classes", classes.subList(0, classes.size() - 1).join(","))
+        file.withOutputStream { props.store(it, null) }
+        cache = ScanCache.load(file, "fp")
+        then: "treated as cache miss"
+        cache.getScannedClasses() == null
+    }
+
+    def "Check fingerprint"() {
+
+        expect: "fingerprint depends on configuration"
+        ScanCache.fingerprint("a", true) == ScanCache.fingerprint("a", true)
+        ScanCache.fingerprint("a", true) != ScanCache.fingerprint("a", false)
+    }
+
+    private List<Class> scan(ClasspathScanner scanner) {
+        List<Class> res = []
+        scanner.scan { res.add(it) }
+        return res
+    }
+}
@@ -0,0 +1,111 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.diagnostic.support.features.FooModule
+import ru.vyarus.dropwizard.guice.diagnostic.support.features.FooResource
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ScanIndex
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ScanIndexTest extends Specification {
+
+    ClassLoader original
+    Path dir
+
+    void setup() {
+        original = Thread.currentThread().contextClassLoader
+        dir = Files.createTempDirectory("guicey-index")
+    }
+
+    void cleanup() {
+        Thread.currentThread().contextClassLoader = original
+        dir.toFile().deleteDir()
+    }
+
+    def "Check index generation"() {
+
+        when: "collect classes from compiled classes dir"
+        Path classes = Paths.get(FooResource.protectionDomain.codeSource.location.toURI())
+        List<String> found = ScanIndex.collect(classes, FooResource.package.name)
+        then: "classes found"
+        found.containsAll([FooResource.name, FooModule.name])
+        found == found.toSorted()
+
+        when: "write index"
+        ScanIndex.write(dir.resolve(ScanIndex.LOCATION), found)
+        ScanIndex index = ScanIndex.load(loader())
+        then: "index loaded"
+        index.getClasses() as List == found
+        index.getClasses(FooResource.package.name) == found
+        index.getClasses("com.foo").isEmpty()
+    }
+
+    def "Check no index"() {
+
+        expect: "no index in classpath"
+        ScanIndex.load(loader()) == null
+    }
+
+    def "Check scan from index"() {
+
+        setup: "index with only two classes"
+        ScanIndex.write(dir.resolve(ScanIndex.LOCATION), [FooResource.name, FooModule.name])
+        Thread.currentThread().contextClassLoader = loader()
+
+        when: "scan with index"
+        StatsTracker tracker = new StatsTracker()
+        List<Class> res = scan(new ClasspathScanner([FooResource.package.name] as Set, false, true, tracker))
+        then: "only indexed classes found"
+        res == [FooResource, FooModule]
+        tracker.getCounters()[Stat.ScanIndexedPackagesCount] == 1
+        tracker.getCounters()[Stat.ScanClassesCount] == 2
+
+        when: "scan without index"
+        tracker = new StatsTracker()
+        res = scan(new ClasspathScanner([FooResource.package.name] as Set, false, false, tracker))
+        then: "all classes found"
+        res.size() > 2
+        tracker.getCounters()[Stat.ScanIndexedPackagesCount] == 0
+
+        when: "package not in index"
+        tracker = new StatsTracker()
+        res = scan(new ClasspathScanner([ScanIndexTest.package.name] as Set, false, true, tracker))
+        then: "classpath scanned"
+        res.contains(ScanIndexTest)
+        tracker.getCounters()[Stat.ScanIndexedPackagesCount] == 0
+    }
+
+    def "Check stale index"() {
+
+        setup: "index with not existing class"
+        ScanIndex.write(dir.resolve(ScanIndex.LOCATION), [FooResource.name, FooResource.package.name + '.Removed'])
+        Thread.currentThread().contextClassLoader = loader()
+
+        when: "scan with index"
+        StatsTracker tracker = new StatsTracker()
+        List<Class> res = scan(new ClasspathScanner([FooResource.package.name] as Set, false, true, tracker))
+        then: "package scanned instead of index"
+        res.size() > 1
+        res.containsAll([FooResource, FooModule])
+        tracker.getCounters()[Stat.ScanIndexedPackagesCount] == 0
+    }
+
+    private ClassLoader loader() {
+        return new URLClassLoader([dir.toUri().toURL()] as URL[], original)
+    }
+
+    private List<Class> scan(ClasspathScanner scanner) {
+        List<Class> res = []
+        scanner.scan { res.add(it) }
+        return res
+    }
+}
@@ -1,5 +1,10 @@
 package ru.vyarus.guicey.eventbus;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
@@ -11,6 +16,12 @@ import ru.vyarus.guicey.eventbus.module.TypeLiteralAdapterMatcher;
 import ru.vyarus.guicey.eventbus.report.EventSubscribersReporter;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Binds support for single (!) event bus. {@link EventBus} available for injection (to publish events).
  * All guice beans with methods annotated with {@link com.google.common.eventbus.Subscribe} are
@@ -27,6 +38,10 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  *          .withMatcher(Matchers.inSubpackage("some.package"))
  * </code></pre>
  * <p>
+ * For high-throughput cases, asynchronous events processing could be enabled with bounded thread pool
+ * ({@link #async(int, int)}) or with custom executor ({@link #async(java.util.concurrent.Executor)}), e.g. with
+ * virtual threads executor.
+ * <p>
  * Reflection is used for registered listeners printing (no way otherwise to get registered subscribers).
  * If there will be any problems with it, simply disable reporting.
  * <p>
@@ -39,15 +54,27 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  */
 public class EventBusBundle extends UniqueGuiceyBundle {
 
+    /**
+     * Default event bus name.
+     */
+    public static final String BUS_NAME = "bus";
+    /**
+     * Async mode metrics prefix.
+     */
+    public static final String METRICS_PREFIX = "guicey.eventbus";
+
     private final EventBus eventbus;
     private Matcher<? super TypeLiteral<?>> typeMatcher = Matchers.any();
     private boolean report = true;
+    private Executor executor;
+    private int threads;
+    private int queueSize;
 
     /**
-     * Register default event bus. Events processing is synchronous.
+     * Register default event bus. Events processing is synchronous (unless async mode enabled).
      */
     public EventBusBundle() {
-        this(new EventBus("bus"));
+        this(null);
     }
 
     /**
@@ -77,6 +104,46 @@ public class EventBusBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Enable asynchronous events processing with bounded thread pool. When pool queue is full, event listener
+     * is called in publisher thread (natural backpressure). Pool is managed by dropwizard (shut down with
+     * application).
+     * <p>
+     * Pool metrics (submitted, running, completed, duration and queue size) are registered in dropwizard
+     * metrics registry with "guicey.eventbus" prefix.
+     * <p>
+     * Applicable only for default event bus (not for custom event bus instance).
+     *
+     * @param threads   pool threads count
+     * @param queueSize pool queue size (pending listener calls)
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle async(final int threads, final int queueSize) {
+        Preconditions.checkArgument(threads > 0 && queueSize > 0, "Threads and queue size must be positive");
+        checkDefaultBus();
+        this.threads = threads;
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * Enable asynchronous events processing with custom executor. For example, virtual threads might be used:
+     * {@code .async(Executors.newVirtualThreadPerTaskExecutor())}. Executor shutdown must be managed manually.
+     * <p>
+     * If provided executor is {@link ExecutorService}, its metrics (submitted, running, completed and duration)
+     * are registered in dropwizard metrics registry with "guicey.eventbus" prefix.
+     * <p>
+     * Applicable only for default event bus (not for custom event bus instance).
+     *
+     * @param executor executor for listeners calls
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle async(final Executor executor) {
+        checkDefaultBus();
+        this.executor = Preconditions.checkNotNull(executor, "Executor required");
+        return this;
+    }
+
     /**
      * If you have a lot of listeners or events or simply don't want console reporting use this method.
      * <p>
@@ -92,7 +159,7 @@ public class EventBusBundle extends UniqueGuiceyBundle {
 
     @Override
     public void run(final GuiceyEnvironment environment) {
-        environment.modules(new EventBusModule(eventbus, typeMatcher));
+        environment.modules(new EventBusModule(eventbus != null ? eventbus : createBus(environment), typeMatcher));
 
         if (report) {
             // report after application startup to count events, resolved from JIT-created services (not declared)
@@ -103,4 +170,30 @@ public class EventBusBundle extends UniqueGuiceyBundle {
             });
         }
     }
+
+    private void checkDefaultBus() {
+        Preconditions.checkState(eventbus == null, "Async mode could be enabled only for default event bus");
+    }
+
+    private EventBus createBus(final GuiceyEnvironment environment) {
+        final MetricRegistry metrics = environment.environment().metrics();
+        Executor exec = executor;
+        if (threads > 0) {
+            final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueSize);
+            metrics.register(MetricRegistry.name(METRICS_PREFIX, "queue"), (Gauge<Integer>) queue::size);
+            exec = environment.environment().lifecycle().executorService("guicey-eventbus-%d")
+                    .minThreads(threads)
+                    .maxThreads(threads)
+                    .workQueue(queue)
+                    .rejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy())
+                    .build();
+        }
+        if (exec == null) {
+            return new EventBus(BUS_NAME);
+        }
+        if (exec instanceof ExecutorService) {
+            exec = new InstrumentedExecutorService((ExecutorService) exec, metrics, METRICS_PREFIX);
+        }
+        return new AsyncEventBus(BUS_NAME, exec);
+    }
 }
@@ -2,6 +2,7 @@ package ru.vyarus.guicey.eventbus.module;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
@@ -11,11 +12,15 @@ import com.google.inject.spi.TypeListener;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
 import jakarta.inject.Singleton;
+import java.lang.reflect.Method;
 
 /**
  * Module binds provided {@link EventBus} instance. Publishers should inject event bus for posting events.
  * Listeners must only define method with event as argument and annotated with {@link Subscribe}. All guice beans
  * with annotated methods registered automatically.
+ * <p>
+ * Bean type is checked for listener methods only once (when guice encounters type), so beans without listener
+ * methods are not registered in event bus at all (no introspection on each instance provision).
  *
  * @author Vyacheslav Rusakov
  * @see EventSubscribersInfo guice bean registered for programmatic subscribers info access
@@ -51,10 +56,30 @@ public class EventBusModule extends AbstractModule {
         bindListener(typeMatcher, new TypeListener() {
             @Override
             public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
-                // register all beans: event bus will introspect each class and register found listeners
+                // type encountered only once, so instances of types without listeners would not be introspected
                 // duplicate registrations are valid (internal event bus cache will handle it)
-                encounter.register((InjectionListener) eventbus::register);
+                if (hasSubscribers(type.getRawType())) {
+                    encounter.register((InjectionListener) eventbus::register);
+                }
             }
         });
     }
+
+    /**
+     * Same search as in event bus: all methods in class hierarchy (including interfaces) annotated with
+     * {@link Subscribe}.
+     *
+     * @param type bean type
+     * @return true if type contains listener methods
+     */
+    private static boolean hasSubscribers(final Class<?> type) {
+        for (Class<?> cls : TypeToken.of(type).getTypes().rawTypes()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
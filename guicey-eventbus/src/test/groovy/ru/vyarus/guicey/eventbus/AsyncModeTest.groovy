@@ -0,0 +1,76 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.AsyncEventBus
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo
+import ru.vyarus.guicey.eventbus.support.Event1
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class AsyncModeTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Service service
+    @Inject
+    EventSubscribersInfo info
+    @Inject
+    Environment environment
+
+    def "Check async mode"() {
+
+        when: "publish events"
+        service.latch = new CountDownLatch(100)
+        100.times { bus.post(new Event1()) }
+        then: "received"
+        bus instanceof AsyncEventBus
+        service.latch.await(5, TimeUnit.SECONDS)
+        info.getListenerTypes(Event1) == [Service] as Set
+
+        and: "metrics registered"
+        MetricRegistry metrics = environment.metrics()
+        metrics.getGauges().containsKey("guicey.eventbus.queue")
+        metrics.meter("guicey.eventbus.submitted").count == 100
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle().async(2, 10))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        CountDownLatch latch
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+            latch.countDown()
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ru.vyarus.guicey.eventbus
+
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.Event2
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class SubscribersDetectionTest extends Specification {
+
+    static CountingEventBus BUS = new CountingEventBus()
+
+    @Inject
+    EventBus bus
+    @Inject
+    NoListener noListener
+    @Inject
+    InheritedListener inherited
+    @Inject
+    InterfaceListener iface
+    @Inject
+    EventSubscribersInfo info
+
+    def "Check only listeners registered in event bus"() {
+
+        expect: "bean without listener methods not registered"
+        !BUS.registered.any { it instanceof NoListener }
+
+        and: "beans with inherited listener methods registered"
+        BUS.registered.count { it.is(inherited) } == 1
+        BUS.registered.count { it.is(iface) } == 1
+        info.getListenerTypes(Event1) == [InheritedListener] as Set
+        info.getListenerTypes(Event2) == [InterfaceListener] as Set
+
+        when: "publish events"
+        bus.post(new Event1())
+        bus.post(new Event2())
+        then: "received"
+        inherited.event1 == 1
+        iface.event2 == 1
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle(BUS))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class CountingEventBus extends EventBus {
+        List<Object> registered = []
+
+        @Override
+        void register(Object object) {
+            registered.add(object)
+            super.register(object)
+        }
+    }
+
+    static class NoListener {
+    }
+
+    static class BaseListener {
+        int event1
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+            event1++
+        }
+    }
+
+    static class InheritedListener extends BaseListener {
+    }
+
+    static interface Listener {
+        @Subscribe
+        void onEvent2(Event2 event)
+    }
+
+    static class InterfaceListener implements Listener {
+        int event2
+
+        @Override
+        void onEvent2(Event2 event) {
+            event2++
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package ru.vyarus.guicey.jdbi3;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.inject.Injector;
@@ -22,6 +25,11 @@ import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
 import ru.vyarus.guicey.jdbi3.module.JdbiModule;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxAction;
+import ru.vyarus.guicey.jdbi3.unit.ReplicaFallback;
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitHolder;
+import ru.vyarus.guicey.jdbi3.unit.UnitBatch;
+import ru.vyarus.guicey.jdbi3.unit.UnitHolder;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import jakarta.inject.Provider;
@@ -64,6 +72,8 @@ import java.util.function.Consumer;
 @SuppressWarnings("PMD.ExcessiveImports")
 public final class JdbiBundle extends UniqueGuiceyBundle {
 
+    private static final String METRICS_PREFIX = "guicey.jdbi3";
+
     private final ConfigAwareProvider<Jdbi, ?> jdbi;
     private List<Class<? extends Annotation>> txAnnotations = ImmutableList
             .<Class<? extends Annotation>>builder()
@@ -72,6 +82,11 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
     private List<JdbiPlugin> plugins = Collections.emptyList();
     private Consumer<Jdbi> configurer;
     private boolean eagerInit;
+    private UnitHolder unitHolder = new ThreadLocalUnitHolder();
+    private boolean lazyUnits;
+    private int batchSize = UnitBatch.DEFAULT_THRESHOLD;
+    private ConfigAwareProvider<Jdbi, ?> replica;
+    private ReplicaFallback replicaFallback = ReplicaFallback.PRIMARY;
 
     private JdbiBundle(final ConfigAwareProvider<Jdbi, ?> jdbi) {
         this.jdbi = jdbi;
@@ -114,6 +129,95 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * By default, unit of work is bound to thread ({@link ThreadLocalUnitHolder}). Custom holder could be used
+     * to store unit of work in different context. Note that unit of work could be propagated into other thread
+     * with {@link UnitManager#wrap(Runnable)} with any holder.
+     *
+     * @param holder unit of work holder
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withUnitHolder(final UnitHolder holder) {
+        this.unitHolder = Preconditions.checkNotNull(holder, "Holder required");
+        return this;
+    }
+
+    /**
+     * By default, unit of work opens handle (and so acquires connection from pool) immediately. With lazy units,
+     * handle is opened only when it is actually required (e.g. on first repository call). Transaction, declared
+     * with annotation, is also started after handle opening. This way transactional methods, not calling database
+     * (e.g. because of cache hit), would not consume connections.
+     * <p>
+     * Note that manual transactions ({@link TransactionTemplate#inTransaction(TxAction)}) still open handle
+     * immediately, because action receives handle. Use
+     * {@link TransactionTemplate#inLazyTransaction(ru.vyarus.guicey.jdbi3.tx.TxConfig, java.util.concurrent.Callable)}
+     * instead.
+     * <p>
+     * Started units and opened handles counts are available as "guicey.jdbi3.units" and "guicey.jdbi3.handles"
+     * metrics (and through {@link UnitManager}).
+     *
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withLazyUnits() {
+        this.lazyUnits = true;
+        return this;
+    }
+
+    /**
+     * Statements, queued with {@link UnitBatch}, are executed when queue size reaches threshold (and before
+     * commit). By default, threshold is {@link UnitBatch#DEFAULT_THRESHOLD}.
+     *
+     * @param size queue size to flush batch
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withBatchSize(final int size) {
+        Preconditions.checkArgument(size > 0, "Batch size must be positive");
+        this.batchSize = size;
+        return this;
+    }
+
+    /**
+     * Register replica database: read-only units of work (e.g. {@code @InTransaction(readOnly = true)}) would
+     * use replica and all other units would use primary database. Configured plugins, configurer and
+     * mappers are applied to replica jdbi too.
+     * <p>
+     * Opened handles and fallbacks are available as "guicey.jdbi3.handles.primary", "guicey.jdbi3.handles.replica"
+     * and "guicey.jdbi3.replica.fallbacks" metrics.
+     *
+     * @param replica replica jdbi provider
+     * @param <C>     configuration type
+     * @return bundle instance for chained calls
+     * @see #withReplicaFallback(ReplicaFallback)
+     */
+    public <C extends Configuration> JdbiBundle withReplicaDbi(final ConfigAwareProvider<Jdbi, C> replica) {
+        this.replica = Preconditions.checkNotNull(replica, "Replica provider required");
+        return this;
+    }
+
+    /**
+     * Same as {@link #withReplicaDbi(ConfigAwareProvider)}, but using only database configuration
+     * (health check and metrics would be registered with "replica" name).
+     *
+     * @param db  replica database configuration provider
+     * @param <C> configuration type
+     * @return bundle instance for chained calls
+     */
+    public <C extends Configuration> JdbiBundle withReplicaDatabase(
+            final ConfigAwareProvider<PooledDataSourceFactory, C> db) {
+        return withReplicaDbi(new SimpleDbiProvider<>(db, "replica"));
+    }
+
+    /**
+     * By default, read-only units use primary database if replica connection fails ({@link ReplicaFallback#PRIMARY}).
+     *
+     * @param fallback replica connection error behaviour
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withReplicaFallback(final ReplicaFallback fallback) {
+        this.replicaFallback = Preconditions.checkNotNull(fallback, "Fallback required");
+        return this;
+    }
+
     /**
      * By default, repository beans (annotated with {@link JdbiRepository}) are initialized on first method call.
      * Lazy initialization is required to properly add all registered jdbi extensions. Also, this slightly speed
@@ -139,13 +243,25 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
 
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final Jdbi jdbi = this.jdbi.get(environment.configuration(), environment.environment());
-        plugins.forEach(jdbi::installPlugin);
-        if (configurer != null) {
-            configurer.accept(jdbi);
+        final Jdbi jdbi = configure(this.jdbi.get(environment.configuration(), environment.environment()));
+        final Jdbi replicaJdbi = replica == null ? null
+                : configure(replica.get(environment.configuration(), environment.environment()));
+
+        final UnitManager manager = new UnitManager(jdbi, replicaJdbi, replicaFallback, unitHolder, lazyUnits);
+        final MetricRegistry metrics = environment.environment().metrics();
+        metrics.register(MetricRegistry.name(METRICS_PREFIX, "units"), (Gauge<Long>) manager::getUnitsCount);
+        metrics.register(MetricRegistry.name(METRICS_PREFIX, "handles"), (Gauge<Long>) manager::getHandlesCount);
+        if (replicaJdbi != null) {
+            metrics.register(MetricRegistry.name(METRICS_PREFIX, "handles", "primary"), (Gauge<Long>) () ->
+                    manager.getHandlesCount() - manager.getReplicaHandlesCount());
+            metrics.register(MetricRegistry.name(METRICS_PREFIX, "handles", "replica"),
+                    (Gauge<Long>) manager::getReplicaHandlesCount);
+            metrics.register(MetricRegistry.name(METRICS_PREFIX, "replica", "fallbacks"),
+                    (Gauge<Long>) manager::getReplicaFallbacksCount);
         }
 
-        environment.modules(new JdbiModule(jdbi, txAnnotations));
+        environment.modules(new JdbiModule(jdbi, txAnnotations, manager,
+                new UnitBatch(manager, batchSize, metrics)));
         if (eagerInit) {
             // eager repository proxies creation
             environment.onApplicationStartup(this::performEagerInitialization);
@@ -175,6 +291,14 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return forDbi(new SimpleDbiProvider<>(db));
     }
 
+    private Jdbi configure(final Jdbi jdbi) {
+        plugins.forEach(jdbi::installPlugin);
+        if (configurer != null) {
+            configurer.accept(jdbi);
+        }
+        return jdbi;
+    }
+
     @SuppressWarnings("PMD.UseDiamondOperator")
     private void performEagerInitialization(final Injector injector) {
         final Set<SqlObjectProvider> proxies = injector.getInstance(
@@ -16,6 +16,7 @@ import org.jdbi.v3.core.Jdbi;
 public class SimpleDbiProvider<C extends Configuration> implements ConfigAwareProvider<Jdbi, C> {
 
     private final ConfigAwareProvider<PooledDataSourceFactory, C> database;
+    private final String name;
 
     /**
      * Create configuration-aware jdbi provider.
@@ -23,11 +24,22 @@ public class SimpleDbiProvider<C extends Configuration> implements ConfigAwarePr
      * @param database configuration provider
      */
     public SimpleDbiProvider(final ConfigAwareProvider<PooledDataSourceFactory, C> database) {
+        this(database, "db");
+    }
+
+    /**
+     * Create configuration-aware jdbi provider.
+     *
+     * @param database configuration provider
+     * @param name     database name (used for health check and metrics)
+     */
+    public SimpleDbiProvider(final ConfigAwareProvider<PooledDataSourceFactory, C> database, final String name) {
         this.database = database;
+        this.name = name;
     }
 
     @Override
     public Jdbi get(final C configuration, final Environment environment) {
-        return new JdbiFactory().build(environment, database.get(configuration, environment), "db");
+        return new JdbiFactory().build(environment, database.get(configuration, environment), name);
     }
 }
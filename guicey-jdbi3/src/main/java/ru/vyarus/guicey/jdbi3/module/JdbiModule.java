@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.jdbi3.module;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Preconditions;
 import com.google.inject.AbstractModule;
 import com.google.inject.Stage;
@@ -15,6 +16,7 @@ import ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import ru.vyarus.guicey.jdbi3.tx.aop.TransactionalInterceptor;
+import ru.vyarus.guicey.jdbi3.unit.UnitBatch;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import java.lang.annotation.Annotation;
@@ -37,6 +39,8 @@ import java.util.List;
 public class JdbiModule extends AbstractModule {
     private final Jdbi jdbi;
     private final List<Class<? extends Annotation>> txAnnotations;
+    private final UnitManager unitManager;
+    private final UnitBatch unitBatch;
 
     /**
      * Create jdbi module.
@@ -45,10 +49,34 @@ public class JdbiModule extends AbstractModule {
      * @param txAnnotations transaction annotations
      */
     public JdbiModule(final Jdbi jdbi, final List<Class<? extends Annotation>> txAnnotations) {
+        this(jdbi, txAnnotations, new UnitManager(jdbi));
+    }
+
+    private JdbiModule(final Jdbi jdbi,
+                       final List<Class<? extends Annotation>> txAnnotations,
+                       final UnitManager unitManager) {
+        this(jdbi, txAnnotations, unitManager,
+                new UnitBatch(unitManager, UnitBatch.DEFAULT_THRESHOLD, new MetricRegistry()));
+    }
+
+    /**
+     * Create jdbi module.
+     *
+     * @param jdbi          jdbi instance
+     * @param txAnnotations transaction annotations
+     * @param unitManager   unit of work manager
+     * @param unitBatch     unit of work batching support
+     */
+    public JdbiModule(final Jdbi jdbi,
+                      final List<Class<? extends Annotation>> txAnnotations,
+                      final UnitManager unitManager,
+                      final UnitBatch unitBatch) {
         Preconditions.checkState(!txAnnotations.isEmpty(),
                 "Provide at least one transactional annotation");
         this.jdbi = jdbi;
         this.txAnnotations = txAnnotations;
+        this.unitManager = Preconditions.checkNotNull(unitManager, "Unit manager required");
+        this.unitBatch = Preconditions.checkNotNull(unitBatch, "Unit batch required");
     }
 
     @Override
@@ -68,7 +96,8 @@ public class JdbiModule extends AbstractModule {
         bind(MapperBinder.class).asEagerSingleton();
 
         // unit of work support
-        bind(UnitManager.class);
+        bind(UnitManager.class).toInstance(unitManager);
+        bind(UnitBatch.class).toInstance(unitBatch);
         bind(Handle.class).toProvider(UnitManager.class);
         // transactions support
         //      supplier provides correct handler into jdbi sql proxies
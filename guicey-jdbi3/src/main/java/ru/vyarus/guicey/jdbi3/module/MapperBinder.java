@@ -3,6 +3,7 @@ package ru.vyarus.guicey.jdbi3.module;
 import com.google.inject.Inject;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.RowMapper;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import java.util.Set;
 
@@ -21,10 +22,14 @@ public class MapperBinder {
      * Create mapper binder.
      *
      * @param dbi     jdbi instance
+     * @param manager unit manager (to access replica jdbi)
      * @param mappers row mappers
      */
     @Inject
-    public MapperBinder(final Jdbi dbi, final Set<RowMapper> mappers) {
+    public MapperBinder(final Jdbi dbi, final UnitManager manager, final Set<RowMapper> mappers) {
         mappers.forEach(dbi::registerRowMapper);
+        if (manager.getReplica() != null) {
+            mappers.forEach(manager.getReplica()::registerRowMapper);
+        }
     }
 }
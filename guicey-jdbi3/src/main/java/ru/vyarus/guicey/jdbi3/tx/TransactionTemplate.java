@@ -6,15 +6,18 @@ import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.transaction.TransactionException;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import ru.vyarus.guicey.jdbi3.unit.Unit;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.concurrent.Callable;
 
 /**
  * Transaction template used to both declare unit of work and start transaction.
  * If called inside of transaction then provided action will be simply executed as transaction is already managed
- * somewhere outside. In case of exception, it's propagated and transaction rolled back.
+ * somewhere outside. In case of exception, it's propagated and transaction rolled back. Statements, queued with
+ * {@link ru.vyarus.guicey.jdbi3.unit.UnitBatch}, are executed just before commit.
  * <p>
  * Usage:
  * <pre><code>
@@ -76,7 +79,8 @@ public class TransactionTemplate {
                 throw new RuntimeException(th);
             }
         } else {
-            manager.beginUnit();
+            // read-only unit could use replica database
+            manager.beginUnit(config.isReadOnly());
             try {
                 return inNewTransaction(config, action);
             } finally {
@@ -85,6 +89,41 @@ public class TransactionTemplate {
         }
     }
 
+    /**
+     * Same as {@link #inTransaction(TxConfig, TxAction)}, but action does not receive handle. In lazy units mode
+     * ({@link UnitManager#isLazy()}) this allows deferring handle opening (and transaction start) until handle
+     * would be actually requested (e.g. by repository call). If action does not call database, connection
+     * would not be acquired at all. In default mode behaves exactly as {@link #inTransaction(TxConfig, TxAction)}.
+     * <p>
+     * Used by transactional annotations interceptor.
+     *
+     * @param config transaction config
+     * @param action action to execute
+     * @param <T>    return type
+     * @return action result
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public <T> T inLazyTransaction(final TxConfig config, final Callable<T> action) {
+        if (!manager.isLazy()) {
+            return inTransaction(config, handle -> action.call());
+        }
+        try {
+            if (manager.isUnitStarted()) {
+                return inCurrentLazyTransaction(config, action);
+            } else {
+                manager.beginUnit(config);
+                try {
+                    return inDeferredTransaction(action);
+                } finally {
+                    manager.endUnit();
+                }
+            }
+        } catch (Throwable th) {
+            Throwables.throwIfUnchecked(th);
+            throw new RuntimeException(th);
+        }
+    }
+
     private <T> T inCurrentTransaction(final TxConfig config, final TxAction<T> action) throws Exception {
         // mostly copies org.jdbi.v3.sqlobject.transaction.internal.TransactionDecorator logic
         final Handle h = manager.get();
@@ -102,13 +141,59 @@ public class TransactionTemplate {
         return action.execute(h);
     }
 
+    private <T> T inCurrentLazyTransaction(final TxConfig config, final Callable<T> action) throws Exception {
+        final Unit unit = manager.getCurrentUnit();
+        final TxConfig current = unit.getTransaction();
+        // if isolation level is unknown, handle must be opened for check
+        if (unit.isHandleOpened() || config.isLevelSet() && (current == null || !current.isLevelSet())) {
+            return inCurrentTransaction(config, handle -> action.call());
+        }
+        // check not yet started transaction
+        if (config.isLevelSet() && current.getLevel() != config.getLevel()) {
+            throw new TransactionException("Tried to execute nested @Transaction(" + config.getLevel() + "), "
+                    + "but already running in a transaction with isolation level " + current.getLevel() + ".");
+        }
+        if (current != null && current.isReadOnly() && !config.isReadOnly()) {
+            throw new TransactionException("Tried to execute a nested @Transaction(readOnly=false) "
+                    + "inside a readOnly transaction");
+        }
+        return action.call();
+    }
+
+    private <T> T inDeferredTransaction(final Callable<T> action) throws Exception {
+        // transaction started by unit manager after handle opening
+        final Unit unit = manager.getCurrentUnit();
+        final T res;
+        try {
+            res = action.call();
+            // execute statements queued with UnitBatch before commit
+            manager.flushBatch();
+        } catch (Throwable th) {
+            if (unit.isHandleOpened() && unit.getHandle().isInTransaction()) {
+                try {
+                    unit.getHandle().rollback();
+                } catch (Exception ex) {
+                    th.addSuppressed(ex);
+                }
+            }
+            throw th;
+        }
+        if (unit.isHandleOpened() && unit.getHandle().isInTransaction()) {
+            unit.getHandle().commit();
+        }
+        return res;
+    }
+
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
     private <T> T inNewTransaction(final TxConfig config, final TxAction<T> action) {
         final Handle h = manager.get();
         h.setReadOnly(config.isReadOnly());
         final HandleCallback<T, RuntimeException> callback = handle -> {
             try {
-                return action.execute(handle);
+                final T res = action.execute(handle);
+                // execute statements queued with UnitBatch before commit
+                manager.flushBatch();
+                return res;
             } catch (Exception e) {
                 Throwables.throwIfUnchecked(e);
                 throw new RuntimeException(e);
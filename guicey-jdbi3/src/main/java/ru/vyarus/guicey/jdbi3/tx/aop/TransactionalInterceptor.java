@@ -17,7 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Intercept transaction annotations usage and applies {@link TransactionTemplate} around method call.
@@ -28,12 +28,10 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class TransactionalInterceptor implements MethodInterceptor {
 
-    private static final ReentrantLock LOCK = new ReentrantLock();
-
     private final Map<Class<? extends Annotation>, Class<? extends TxConfigFactory>> txConfigFactories
             = new HashMap<>();
     // cache used to avoid annotations introspection on each call
-    private final Map<String, TxConfig> methodCache = new HashMap<>();
+    private final Map<Method, TxConfig> methodCache = new ConcurrentHashMap<>();
 
     @Inject
     private TransactionTemplate template;
@@ -53,7 +51,7 @@ public class TransactionalInterceptor implements MethodInterceptor {
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
     public Object invoke(final MethodInvocation invocation) throws Throwable {
         final TxConfig config = checkTxConfig(invocation.getMethod());
-        return template.inTransaction(config, handle -> {
+        return template.inLazyTransaction(config, () -> {
             try {
                 return invocation.proceed();
             } catch (Throwable throwable) {
@@ -72,20 +70,14 @@ public class TransactionalInterceptor implements MethodInterceptor {
     }
 
     private TxConfig checkTxConfig(final Method method) {
-        final String methodIdentity = (method.getDeclaringClass().getName() + " " + method.toString()).intern();
-        TxConfig cfg = methodCache.get(methodIdentity);
+        TxConfig cfg = methodCache.get(method);
         if (cfg == null) {
-            LOCK.lock();
-            try {
-                if (methodCache.get(methodIdentity) != null) {
-                    // cfg could be stored while waiting for lock
-                    cfg = methodCache.get(methodIdentity);
-                } else {
-                    cfg = buildConfig(method);
-                    methodCache.put(methodIdentity, cfg);
-                }
-            } finally {
-                LOCK.unlock();
+            // config could be built concurrently, but only first stored value would be used
+            // (computeIfAbsent not used because config factory instantiation could lead to other transactional calls)
+            cfg = buildConfig(method);
+            final TxConfig prev = methodCache.putIfAbsent(method, cfg);
+            if (prev != null) {
+                cfg = prev;
             }
         }
         return cfg;
@@ -0,0 +1,70 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import org.jdbi.v3.core.statement.PreparedBatch;
+
+/**
+ * Statements, queued in unit of work with {@link UnitBatch}. All statements use the same sql.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PendingBatch {
+
+    private final String sql;
+    private final PreparedBatch batch;
+    private final Timer timer;
+    private final Histogram sizes;
+
+    PendingBatch(final String sql, final PreparedBatch batch, final Timer timer, final Histogram sizes) {
+        this.sql = sql;
+        this.batch = batch;
+        this.timer = timer;
+        this.sizes = sizes;
+    }
+
+    /**
+     * @return batch sql
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return jdbi batch
+     */
+    public PreparedBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * @return count of queued statements
+     */
+    public int size() {
+        return batch.size();
+    }
+
+    /**
+     * Execute queued statements.
+     *
+     * @return count of executed statements
+     */
+    public int flush() {
+        final int size = batch.size();
+        try (Timer.Context ignored = timer.time()) {
+            batch.execute();
+            sizes.update(size);
+            return size;
+        } finally {
+            batch.close();
+        }
+    }
+
+    /**
+     * Discard queued statements.
+     */
+    public void discard() {
+        batch.close();
+    }
+}
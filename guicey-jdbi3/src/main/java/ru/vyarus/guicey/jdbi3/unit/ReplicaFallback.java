@@ -0,0 +1,19 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+/**
+ * Behaviour for read-only units of work when replica connection could not be opened.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public enum ReplicaFallback {
+
+    /**
+     * Open handle on primary database (warning is logged).
+     */
+    PRIMARY,
+    /**
+     * Propagate replica connection error.
+     */
+    FAIL
+}
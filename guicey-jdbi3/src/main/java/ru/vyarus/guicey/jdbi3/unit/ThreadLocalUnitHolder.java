@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+/**
+ * Default unit of work holder: unit is bound to the current thread.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ThreadLocalUnitHolder implements UnitHolder {
+
+    private final ThreadLocal<Unit> unit = new ThreadLocal<>();
+
+    @Override
+    public Unit get() {
+        return unit.get();
+    }
+
+    @Override
+    public void set(final Unit unit) {
+        this.unit.set(unit);
+    }
+
+    @Override
+    public void remove() {
+        unit.remove();
+    }
+}
@@ -0,0 +1,118 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+
+/**
+ * Unit of work state. Stored in {@link UnitHolder} while unit of work is active.
+ * <p>
+ * Unit object could be obtained with {@link UnitManager#getCurrentUnit()} in order to continue unit of work in
+ * different thread (see {@link UnitManager#inUnit(Unit, java.util.concurrent.Callable)}).
+ * <p>
+ * In lazy mode ({@link ru.vyarus.guicey.jdbi3.JdbiBundle#withLazyUnits()}) unit is created without handle: handle
+ * (and connection) is opened by {@link UnitManager} on first access. Transaction, declared for unit, is started
+ * just after handle opening. Handle for read-only unit is opened on replica database (when configured).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Unit {
+
+    private final boolean readOnly;
+    private final TxConfig transaction;
+    private Handle handle;
+    private TransactionIsolationLevel restoreLevel;
+    private PendingBatch batch;
+    private volatile boolean finished;
+
+    /**
+     * Create unit (handle would be opened by {@link UnitManager}).
+     *
+     * @param readOnly    true for read-only unit (could use replica database)
+     * @param transaction transaction to start after handle opening or null
+     */
+    Unit(final boolean readOnly, final TxConfig transaction) {
+        this.readOnly = readOnly;
+        this.transaction = transaction;
+    }
+
+    /**
+     * @return unit handle or null if handle not opened yet (lazy unit)
+     */
+    public Handle getHandle() {
+        return handle;
+    }
+
+    /**
+     * @return true if handle opened
+     */
+    public boolean isHandleOpened() {
+        return handle != null;
+    }
+
+    /**
+     * @return true for read-only unit of work
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return transaction to start after (lazy) handle opening or null
+     */
+    public TxConfig getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Finished unit could not be used anymore (e.g. propagated action executed after unit of work end).
+     *
+     * @return true if unit of work is finished
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Mark unit of work as finished.
+     */
+    void finish() {
+        this.finished = true;
+    }
+
+    /**
+     * @param handle opened handle
+     */
+    void setHandle(final Handle handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * @return isolation level to restore before handle close or null
+     */
+    TransactionIsolationLevel getRestoreLevel() {
+        return restoreLevel;
+    }
+
+    /**
+     * @param restoreLevel isolation level to restore before handle close
+     */
+    void setRestoreLevel(final TransactionIsolationLevel restoreLevel) {
+        this.restoreLevel = restoreLevel;
+    }
+
+    /**
+     * @return statements, queued with {@link UnitBatch} or null
+     */
+    PendingBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * @param batch queued statements or null
+     */
+    void setBatch(final PendingBatch batch) {
+        this.batch = batch;
+    }
+}
@@ -0,0 +1,137 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+
+import jakarta.inject.Singleton;
+import java.util.Map;
+
+/**
+ * Unit of work scoped statements batching. Statements are queued in current unit of work (possibly from
+ * different repositories or services) and executed as single jdbc batch:
+ * <ul>
+ * <li>when queue size reaches configured threshold</li>
+ * <li>on explicit {@link #flush()} call</li>
+ * <li>just before transaction commit (by {@link ru.vyarus.guicey.jdbi3.tx.TransactionTemplate})</li>
+ * </ul>
+ * Only consecutive statements with the same sql could be batched: queuing statement with different sql
+ * flushes current queue first (to preserve execution order). Queued statements are not visible for queries in
+ * the same transaction until flush. Pending statements are discarded on rollback. Unit of work without
+ * transaction (started manually) must be flushed manually.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *    {@literal @}Inject UnitBatch batch;
+ *
+ *    {@literal @}InTransaction
+ *     public void save(List&lt;Sample&gt; samples) {
+ *         samples.forEach(it -&gt; batch.addBean("insert into sample (name) values (:name)", it));
+ *     }
+ * </code></pre>
+ * <p>
+ * Each flush is measured with "guicey.jdbi3.batch.flush" timer and "guicey.jdbi3.batch.size" histogram.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class UnitBatch {
+
+    /**
+     * Default queue size to flush batch.
+     */
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    private final UnitManager manager;
+    private final int threshold;
+    private final Timer timer;
+    private final Histogram sizes;
+
+    /**
+     * Create unit batch support.
+     *
+     * @param manager   unit manager
+     * @param threshold queue size to flush batch
+     * @param metrics   metrics registry
+     */
+    public UnitBatch(final UnitManager manager, final int threshold, final MetricRegistry metrics) {
+        Preconditions.checkArgument(threshold > 0, "Batch size must be positive");
+        this.manager = manager;
+        this.threshold = threshold;
+        this.timer = metrics.timer("guicey.jdbi3.batch.flush");
+        this.sizes = metrics.histogram("guicey.jdbi3.batch.size");
+    }
+
+    /**
+     * Queue statement with named parameters.
+     *
+     * @param sql    statement sql
+     * @param params statement parameters
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void add(final String sql, final Map<String, ?> params) {
+        final PendingBatch batch = prepare(sql);
+        batch.getBatch().add(params);
+        checkThreshold(batch);
+    }
+
+    /**
+     * Queue statement with parameters, bound from bean properties.
+     *
+     * @param sql  statement sql
+     * @param bean parameters bean
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void addBean(final String sql, final Object bean) {
+        final PendingBatch batch = prepare(sql);
+        batch.getBatch().bindBean(bean).add();
+        checkThreshold(batch);
+    }
+
+    /**
+     * Execute all queued statements.
+     *
+     * @return count of executed statements
+     */
+    public int flush() {
+        return manager.flushBatch();
+    }
+
+    /**
+     * @return count of queued statements in current unit of work
+     */
+    public int getPendingCount() {
+        final Unit unit = manager.isUnitStarted() ? manager.getCurrentUnit() : null;
+        return unit == null || unit.getBatch() == null ? 0 : unit.getBatch().size();
+    }
+
+    /**
+     * @return queue size to flush batch automatically
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    private PendingBatch prepare(final String sql) {
+        final Unit unit = manager.getCurrentUnit();
+        PendingBatch batch = unit.getBatch();
+        if (batch != null && !batch.getSql().equals(sql)) {
+            // different statement: flush to preserve execution order
+            manager.flushBatch();
+            batch = null;
+        }
+        if (batch == null) {
+            batch = new PendingBatch(sql, manager.get().prepareBatch(sql), timer, sizes);
+            unit.setBatch(batch);
+        }
+        return batch;
+    }
+
+    private void checkThreshold(final PendingBatch batch) {
+        if (batch.size() >= threshold) {
+            manager.flushBatch();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+/**
+ * Holds current unit of work (unit of work context). By default, unit is thread-bound
+ * ({@link ThreadLocalUnitHolder}). Custom holder could be registered with
+ * {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withUnitHolder(UnitHolder)} (for example, holder based on custom
+ * request context).
+ * <p>
+ * Holder is not responsible for unit propagation between threads: unit could be explicitly bound to other thread
+ * with {@link UnitManager#inUnit(Unit, java.util.concurrent.Callable)} (or {@link UnitManager#wrap(Runnable)}),
+ * which use holder methods for binding.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface UnitHolder {
+
+    /**
+     * @return current unit or null if no unit of work started
+     */
+    Unit get();
+
+    /**
+     * Bind unit of work.
+     *
+     * @param unit unit of work
+     */
+    void set(Unit unit);
+
+    /**
+     * Remove current unit binding.
+     */
+    void remove();
+}
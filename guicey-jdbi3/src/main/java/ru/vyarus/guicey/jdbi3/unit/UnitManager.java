@@ -3,17 +3,35 @@ package ru.vyarus.guicey.jdbi3.unit;
 import com.google.common.base.Preconditions;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
 
-import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages JDBI {@link Handle} for current unit of work. This handle must be used by all JDBI proxies.
- * Unit of work is thread-bound (all actions in one thread participate in one unit of work).
+ * Unit of work is thread-bound by default (all actions in one thread participate in one unit of work), but
+ * unit holder could be customized ({@link UnitHolder}). To continue unit of work in other thread (e.g. in
+ * {@link java.util.concurrent.CompletableFuture} or async resource), unit must be propagated explicitly with
+ * {@link #wrap(Runnable)}, {@link #wrap(Callable)} or {@link #inUnit(Unit, Callable)}. Note that handle is not
+ * thread safe: propagated unit must not be used concurrently and unit must not be finished before propagated
+ * actions complete (propagated action, executed after unit of work end, fails with {@link IllegalStateException}).
+ * <p>
+ * In lazy mode, handle (and so pooled connection) is opened only on first {@link #get()} call (e.g. first
+ * repository call) and not at unit start. Transaction, declared for unit of work (with
+ * {@link #beginUnit(TxConfig)}) is also started just after handle opening. This way units without actual
+ * sql calls (e.g. due to caches) do not consume connections. Counters {@link #getUnitsCount()} and
+ * {@link #getHandlesCount()} show how many units actually required connections.
+ * <p>
+ * When replica database is configured, handles for read-only units of work are opened on replica (all other
+ * units use primary database). If replica connection fails, handle could be opened on primary instead
+ * (see {@link ReplicaFallback}).
  * It is not intended to be used directly (only in really rare cases when manual unit required
  * without opening transaction).
  * <p>
@@ -30,22 +48,107 @@ public class UnitManager implements Provider<Handle> {
     private final Logger logger = LoggerFactory.getLogger(UnitManager.class);
 
     private final Jdbi jdbi;
-    private final ThreadLocal<Handle> unit = new ThreadLocal<>();
+    private final Jdbi replica;
+    private final ReplicaFallback fallback;
+    private final UnitHolder unit;
+    private final boolean lazy;
+    private final AtomicLong units = new AtomicLong();
+    private final AtomicLong handles = new AtomicLong();
+    private final AtomicLong replicaHandles = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
 
     /**
-     * Create a unit manager.
+     * Create a unit manager with thread-bound units.
      *
      * @param jdbi jdbi instance
      */
-    @Inject
     public UnitManager(final Jdbi jdbi) {
+        this(jdbi, new ThreadLocalUnitHolder(), false);
+    }
+
+    /**
+     * Create a unit manager.
+     *
+     * @param jdbi   jdbi instance
+     * @param holder unit of work holder
+     * @param lazy   true to open handle on first access
+     */
+    public UnitManager(final Jdbi jdbi, final UnitHolder holder, final boolean lazy) {
+        this(jdbi, null, ReplicaFallback.PRIMARY, holder, lazy);
+    }
+
+    /**
+     * Create a unit manager with replica database for read-only units.
+     *
+     * @param jdbi     primary jdbi instance
+     * @param replica  replica jdbi instance (may be null)
+     * @param fallback behaviour on replica connection error
+     * @param holder   unit of work holder
+     * @param lazy     true to open handle on first access
+     */
+    public UnitManager(final Jdbi jdbi,
+                       final Jdbi replica,
+                       final ReplicaFallback fallback,
+                       final UnitHolder holder,
+                       final boolean lazy) {
         this.jdbi = jdbi;
+        this.replica = replica;
+        this.fallback = Preconditions.checkNotNull(fallback, "Fallback policy required");
+        this.unit = holder;
+        this.lazy = lazy;
     }
 
     @Override
     public Handle get() {
         Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
-        return unit.get();
+        final Unit current = unit.get();
+        checkNotFinished(current);
+        if (!current.isHandleOpened()) {
+            open(current);
+        }
+        return current.getHandle();
+    }
+
+    /**
+     * @return true if handles opened on first access, false if handle opened at unit start
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return count of started units of work
+     */
+    public long getUnitsCount() {
+        return units.get();
+    }
+
+    /**
+     * @return count of opened handles (acquired connections); could be less than units count in lazy mode
+     */
+    public long getHandlesCount() {
+        return handles.get();
+    }
+
+    /**
+     * @return replica jdbi instance or null if replica not configured
+     */
+    public Jdbi getReplica() {
+        return replica;
+    }
+
+    /**
+     * @return count of handles, opened on replica (included into {@link #getHandlesCount()})
+     */
+    public long getReplicaHandlesCount() {
+        return replicaHandles.get();
+    }
+
+    /**
+     * @return count of read-only units, switched to primary due to replica connection error
+     */
+    public long getReplicaFallbacksCount() {
+        return fallbacks.get();
     }
 
     /**
@@ -55,16 +158,125 @@ public class UnitManager implements Provider<Handle> {
         return unit.get() != null;
     }
 
+    /**
+     * @return current unit of work (to propagate into other thread)
+     * @throws IllegalStateException if unit of work not started
+     */
+    public Unit getCurrentUnit() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        return unit.get();
+    }
+
+    /**
+     * Execute action in context of provided unit of work (started in other thread). Unit is bound only for
+     * action execution (previous binding restored after). Provided unit must not be finished.
+     *
+     * @param target unit of work to use
+     * @param action action to execute
+     * @param <T>    result type
+     * @return action result
+     * @throws IllegalStateException if provided unit of work is already finished
+     * @throws Exception             action error
+     */
+    public <T> T inUnit(final Unit target, final Callable<T> action) throws Exception {
+        checkNotFinished(target);
+        final Unit previous = unit.get();
+        unit.set(target);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                unit.remove();
+            } else {
+                unit.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Bind current unit of work to the action, executed in other thread.
+     *
+     * @param action action to execute in other thread
+     * @param <T>    result type
+     * @return action, bound to current unit of work
+     * @throws IllegalStateException if unit of work not started
+     */
+    public <T> Callable<T> wrap(final Callable<T> action) {
+        final Unit current = getCurrentUnit();
+        return () -> inUnit(current, action);
+    }
+
+    /**
+     * Bind current unit of work to the action, executed in other thread.
+     *
+     * @param action action to execute in other thread
+     * @return action, bound to current unit of work
+     * @throws IllegalStateException if unit of work not started
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public Runnable wrap(final Runnable action) {
+        final Unit current = getCurrentUnit();
+        return () -> {
+            try {
+                inUnit(current, () -> {
+                    action.run();
+                    return null;
+                });
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Execute statements, queued in current unit of work with {@link UnitBatch}. Called automatically before
+     * transaction commit by {@link TransactionTemplate}.
+     *
+     * @return count of executed statements (0 if nothing queued or unit of work not started)
+     */
+    public int flushBatch() {
+        final Unit current = unit.get();
+        final PendingBatch batch = current == null ? null : current.getBatch();
+        if (batch == null) {
+            return 0;
+        }
+        // remove first to not execute batch twice in case of error
+        current.setBatch(null);
+        final int res = batch.flush();
+        logger.trace("Batch flushed: {} statements", res);
+        return res;
+    }
+
     /**
      * Starts unit of work.
      *
      * @throws IllegalStateException if unit of work already started
      */
     public void beginUnit() {
-        Preconditions.checkState(!isUnitStarted(), "Unit of work already started");
-        final Handle handle = jdbi.open();
-        unit.set(handle);
-        logger.trace("Transaction start");
+        beginUnit(false);
+    }
+
+    /**
+     * Starts unit of work. Read-only unit would use replica database (if configured).
+     *
+     * @param readOnly true for read-only unit of work
+     * @throws IllegalStateException if unit of work already started
+     */
+    public void beginUnit(final boolean readOnly) {
+        start(new Unit(readOnly, null));
+    }
+
+    /**
+     * Starts unit of work with transaction: transaction would be started just after handle opening (immediately
+     * or on first handle access in lazy mode). Read-only transaction would use replica database (if configured).
+     *
+     * @param transaction transaction config or null to start unit without transaction
+     * @throws IllegalStateException if unit of work already started
+     */
+    public void beginUnit(final TxConfig transaction) {
+        start(new Unit(transaction != null && transaction.isReadOnly(), transaction));
     }
 
     /**
@@ -74,10 +286,26 @@ public class UnitManager implements Provider<Handle> {
      */
     public void endUnit() {
         Preconditions.checkState(isUnitStarted(), "Stop called outside of unit of work");
-        final Handle handle = unit.get();
+        final Unit current = unit.get();
         // first remove handle to avoid stale handles in any case
         unit.remove();
+        // propagated actions must not use unit after this point
+        current.finish();
+        if (!current.isHandleOpened()) {
+            logger.trace("Transaction end (no handle opened)");
+            return;
+        }
+        if (current.getBatch() != null) {
+            // batch is flushed before commit, so here it could be only after rollback or in manual unit
+            logger.debug("Not flushed batch discarded on unit of work end ({} statements)",
+                    current.getBatch().size());
+            current.getBatch().discard();
+        }
+        final Handle handle = current.getHandle();
         try {
+            if (current.getRestoreLevel() != null) {
+                handle.setTransactionIsolationLevel(current.getRestoreLevel());
+            }
             handle.close();
         } catch (Exception ex) {
             // not entire stacktrace to avoid confusion: it may appear here only because of connection damage
@@ -86,4 +314,67 @@ public class UnitManager implements Provider<Handle> {
         }
         logger.trace("Transaction end");
     }
+
+    private void checkNotFinished(final Unit target) {
+        Preconditions.checkState(!target.isFinished(),
+                "Unit of work is already finished: propagated action must complete before unit of work end");
+    }
+
+    private void start(final Unit created) {
+        Preconditions.checkState(!isUnitStarted(), "Unit of work already started");
+        units.incrementAndGet();
+        if (!lazy) {
+            open(created);
+        }
+        unit.set(created);
+        logger.trace("Transaction start");
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void open(final Unit current) {
+        final Handle handle = current.isReadOnly() && replica != null ? openReplica() : jdbi.open();
+        handles.incrementAndGet();
+        try {
+            final TxConfig transaction = current.getTransaction();
+            if (transaction != null) {
+                // deferred transaction start
+                handle.setReadOnly(transaction.isReadOnly());
+                if (transaction.isLevelSet()) {
+                    final TransactionIsolationLevel level = handle.getTransactionIsolationLevel();
+                    if (level != transaction.getLevel()) {
+                        current.setRestoreLevel(level);
+                        handle.setTransactionIsolationLevel(transaction.getLevel());
+                    }
+                }
+                handle.begin();
+            }
+        } catch (RuntimeException ex) {
+            // handle is not yet assigned to unit, so it must be closed here (otherwise connection would leak)
+            current.setRestoreLevel(null);
+            try {
+                handle.close();
+            } catch (RuntimeException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+        current.setHandle(handle);
+        logger.trace("Handle opened");
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Handle openReplica() {
+        try {
+            final Handle res = replica.open();
+            replicaHandles.incrementAndGet();
+            return res;
+        } catch (RuntimeException ex) {
+            if (fallback == ReplicaFallback.FAIL) {
+                throw ex;
+            }
+            fallbacks.incrementAndGet();
+            logger.warn("Failed to open replica handle, using primary database instead ({})", ex.getMessage());
+            return jdbi.open();
+        }
+    }
 }
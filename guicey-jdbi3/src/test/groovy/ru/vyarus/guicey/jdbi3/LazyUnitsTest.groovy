@@ -0,0 +1,119 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class LazyUnitsTest extends AbstractTest {
+
+    @Inject
+    Service service
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+
+    def "Check lazy units"() {
+
+        setup:
+        long units = manager.unitsCount
+        long handles = manager.handlesCount
+
+        when: "calling transactional method without db access"
+        service.noDb()
+        then: "handle not opened"
+        manager.lazy
+        manager.unitsCount == units + 1
+        manager.handlesCount == handles
+
+        when: "calling transactional method with db access"
+        service.save('test')
+        then: "handle opened"
+        manager.unitsCount == units + 2
+        manager.handlesCount == handles + 1
+        repo.all().size() == 1
+
+        when: "failed transaction"
+        service.saveAndFail('test2')
+        then: "rolled back"
+        thrown(IllegalStateException)
+        repo.all().size() == 1
+
+        when: "nested transaction in lazy unit"
+        service.nested()
+        then: "ok"
+        repo.all().size() == 2
+
+        when: "manual transaction"
+        handles = manager.handlesCount
+        template.inTransaction { 1 }
+        then: "handle opened for action"
+        manager.handlesCount == handles + 1
+    }
+
+    static class Service {
+
+        @Inject
+        CustTxRepository repo
+        @Inject
+        SampleRepository sampleRepo
+
+        @InTransaction
+        int noDb() {
+            return 1
+        }
+
+        @InTransaction
+        void save(String name) {
+            repo.save(new Sample(name: name))
+        }
+
+        @InTransaction
+        void saveAndFail(String name) {
+            repo.save(new Sample(name: name))
+            throw new IllegalStateException("ups")
+        }
+
+        @InTransaction
+        void nested() {
+            noDb()
+            // nested transaction started before handle opening
+            sampleRepo.save(new Sample(name: 'nested'))
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withLazyUnits())
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import org.jdbi.v3.core.ConnectionException
+import org.jdbi.v3.core.Jdbi
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.unit.ReplicaFallback
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitHolder
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class ReplicaTest extends AbstractTest {
+
+    @Inject
+    Service service
+    @Inject
+    UnitManager manager
+    @Inject
+    Jdbi jdbi
+    @Inject
+    Environment environment
+
+    def "Check replica routing"() {
+
+        setup:
+        long handles = manager.handlesCount
+        long replica = manager.replicaHandlesCount
+
+        when: "write transaction"
+        service.save('test')
+        then: "primary used"
+        manager.handlesCount == handles + 1
+        manager.replicaHandlesCount == replica
+
+        when: "read-only transaction"
+        List<Sample> res = service.all()
+        then: "replica used"
+        res.size() == 1
+        manager.handlesCount == handles + 2
+        manager.replicaHandlesCount == replica + 1
+        environment.metrics().gauges["guicey.jdbi3.handles.replica"].value == replica + 1
+    }
+
+    def "Check replica fallback"() {
+
+        setup:
+        Jdbi broken = Jdbi.create("jdbc:unknown:db")
+        UnitManager fallback = new UnitManager(jdbi, broken, ReplicaFallback.PRIMARY, new ThreadLocalUnitHolder(),
+                false)
+        UnitManager fail = new UnitManager(jdbi, broken, ReplicaFallback.FAIL, new ThreadLocalUnitHolder(), false)
+
+        when: "opening read-only unit with broken replica"
+        fallback.beginUnit(true)
+        fallback.endUnit()
+        then: "primary used"
+        fallback.replicaFallbacksCount == 1
+        fallback.replicaHandlesCount == 0
+        fallback.handlesCount == 1
+
+        when: "opening read-only unit without fallback"
+        fail.beginUnit(true)
+        then: "error"
+        thrown(ConnectionException)
+        !fail.isUnitStarted()
+    }
+
+    static class Service {
+
+        @Inject
+        CustTxRepository repo
+
+        @InTransaction
+        void save(String name) {
+            repo.save(new Sample(name: name))
+        }
+
+        @InTransaction(readOnly = true)
+        List<Sample> all() {
+            return repo.all()
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            // same database used as replica
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withReplicaDatabase { SampleConfiguration conf, env -> conf.database })
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitBatch
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class UnitBatchTest extends AbstractTest {
+
+    static final String INSERT = "insert into sample (name) values (:name)"
+
+    @Inject
+    UnitBatch batch
+    @Inject
+    CustTxRepository notxrepo
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    Environment environment
+
+    def "Check batch flushed on commit"() {
+
+        when: "queue statements"
+        int pending = template.inTransaction {
+            batch.addBean(INSERT, new Sample(name: 'test1'))
+            batch.add(INSERT, [name: 'test2'])
+            assert notxrepo.all().isEmpty()
+            batch.pendingCount
+        }
+        then: "executed on commit"
+        pending == 2
+        repo.all().size() == 2
+        environment.metrics().histogram("guicey.jdbi3.batch.size").count > 0
+        environment.metrics().timer("guicey.jdbi3.batch.flush").count > 0
+    }
+
+    def "Check batch flushed by threshold"() {
+
+        when: "queue statements over threshold"
+        int pending = template.inTransaction {
+            4.times { batch.add(INSERT, [name: "test$it".toString()]) }
+            assert notxrepo.all().size() == 3
+            batch.pendingCount
+        }
+        then: "executed"
+        pending == 1
+        repo.all().size() == 4
+    }
+
+    def "Check manual flush"() {
+
+        when: "flush manually"
+        template.inTransaction {
+            batch.add(INSERT, [name: 'test'])
+            assert batch.flush() == 1
+            assert batch.pendingCount == 0
+            assert notxrepo.all().size() == 1
+        }
+        then: "executed"
+        repo.all().size() == 1
+    }
+
+    def "Check different statements"() {
+
+        when: "queue different statements"
+        template.inTransaction {
+            batch.add(INSERT, [name: 'test'])
+            batch.add("update sample set name = :name", [name: 'updated'])
+        }
+        then: "executed in order"
+        repo.all()*.name == ['updated']
+    }
+
+    def "Check batch discarded on rollback"() {
+
+        when: "failed transaction"
+        template.inTransaction {
+            batch.add(INSERT, [name: 'test'])
+            throw new IllegalStateException("ups")
+        }
+        then: "not executed"
+        thrown(IllegalStateException)
+        repo.all().isEmpty()
+
+        when: "queue outside of unit"
+        batch.add(INSERT, [name: 'test'])
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withBatchSize(3))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
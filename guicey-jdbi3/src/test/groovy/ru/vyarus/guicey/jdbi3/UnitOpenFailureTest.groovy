@@ -0,0 +1,71 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.Handle
+import org.jdbi.v3.core.Jdbi
+import org.jdbi.v3.core.spi.JdbiPlugin
+import org.jdbi.v3.core.transaction.LocalTransactionHandler
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitHolder
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class UnitOpenFailureTest extends Specification {
+
+    List<Handle> opened = []
+    Jdbi jdbi
+
+    void setup() {
+        jdbi = Jdbi.create("jdbc:h2:mem:unit-fail")
+        jdbi.installPlugin(new JdbiPlugin() {
+            @Override
+            Handle customizeHandle(Handle handle) {
+                opened.add(handle)
+                return handle
+            }
+        })
+        jdbi.transactionHandler = new LocalTransactionHandler() {
+            @Override
+            void begin(Handle handle) {
+                throw new IllegalStateException("Transaction start failed")
+            }
+        }
+    }
+
+    def "Check handle closed on eager unit transaction start failure"() {
+
+        setup:
+        UnitManager manager = new UnitManager(jdbi, new ThreadLocalUnitHolder(), false)
+
+        when: "starting unit with transaction"
+        manager.beginUnit(new TxConfig())
+        then: "handle closed"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Transaction start failed"
+        opened.size() == 1
+        opened[0].closed
+        !manager.unitStarted
+    }
+
+    def "Check handle closed on lazy unit transaction start failure"() {
+
+        setup:
+        UnitManager manager = new UnitManager(jdbi, new ThreadLocalUnitHolder(), true)
+        manager.beginUnit(new TxConfig())
+
+        when: "accessing handle"
+        manager.get()
+        then: "handle closed"
+        thrown(IllegalStateException)
+        opened.size() == 1
+        opened[0].closed
+
+        when: "finishing unit"
+        manager.endUnit()
+        then: "no errors"
+        !manager.unitStarted
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.jdbi3
+
+import com.google.inject.ProvisionException
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+
+import jakarta.inject.Inject
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class UnitPropagationTest extends AbstractAppTest {
+
+    @Inject
+    CustTxRepository notxrepo
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+
+    @Shared
+    @AutoCleanup('shutdown')
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    def "Check unit not propagated implicitly"() {
+
+        when: "accessing dao in other thread"
+        template.inTransaction {
+            executor.submit({ notxrepo.all() } as Callable).get()
+        }
+        then: "err"
+        def ex = thrown(ExecutionException)
+        ex.cause instanceof ProvisionException
+    }
+
+    def "Check unit propagation"() {
+
+        when: "accessing dao in other thread within current unit"
+        List<Sample> res = template.inTransaction {
+            notxrepo.save(new Sample(name: 'test'))
+            executor.submit(manager.wrap({ notxrepo.all() } as Callable<List<Sample>>)).get()
+        }
+        then: "transaction state visible"
+        res.size() == 1
+
+        when: "changing state in other thread"
+        template.inTransaction {
+            executor.submit(manager.wrap({ notxrepo.save(new Sample(name: 'test2')) } as Runnable)).get()
+            throw new IllegalStateException("ups")
+        }
+        then: "state rolled back"
+        thrown(IllegalStateException)
+        repo.all().size() == 1
+
+        and: "unit binding removed from other thread"
+        !executor.submit({ manager.isUnitStarted() } as Callable<Boolean>).get()
+    }
+
+    def "Check propagation after unit end"() {
+
+        when: "propagated action executed after unit end"
+        Callable<List<Sample>> action = template.inTransaction {
+            manager.wrap({ notxrepo.all() } as Callable<List<Sample>>)
+        }
+        executor.submit(action).get()
+        then: "err"
+        def ex = thrown(ExecutionException)
+        ex.cause instanceof IllegalStateException
+        ex.cause.message.startsWith("Unit of work is already finished")
+
+        and: "unit binding not left in other thread"
+        !executor.submit({ manager.isUnitStarted() } as Callable<Boolean>).get()
+    }
+
+    def "Check propagation outside of unit"() {
+
+        when: "wrapping without unit"
+        manager.wrap({} as Runnable)
+        then: "err"
+        thrown(IllegalStateException)
+    }
+}
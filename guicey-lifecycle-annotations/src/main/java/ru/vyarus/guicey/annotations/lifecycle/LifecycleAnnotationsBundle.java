@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.annotations.lifecycle;
 
+import com.google.common.base.Preconditions;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
@@ -33,6 +34,9 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
  *      builder.bundles(new LifecycleAnnotationsBundle("package.to.apply"))
  * }</pre>
  * (only one instance of bundle will be used)
+ * <p>
+ * By default, lifecycle methods are called sequentially. Independent (e.g. IO-bound) methods could be called
+ * concurrently with {@link #withParallelExecution(int)}.
  *
  * @author Vyacheslav Rusakov
  * @since 08.11.2018
@@ -40,6 +44,7 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
 public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private int threads = 1;
 
     /**
      * Default module constructor to check annotations on all beans.
@@ -68,9 +73,28 @@ public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
         this.typeMatcher = typeMatcher;
     }
 
+    /**
+     * Enable concurrent lifecycle methods execution: all methods for the same annotation would be called in
+     * parallel (with bounded thread pool, created for each lifecycle phase). Execution order could be controlled
+     * with {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} annotation on bean class: methods
+     * of beans with the same order are called in parallel, but different order groups are called sequentially
+     * (according to order value; beans without annotation are processed last).
+     * <p>
+     * Lifecycle phase waits for all methods completion. In case of errors, all errors are aggregated into single
+     * exception ({@link jakarta.annotation.PreDestroy} errors are only logged, as before).
+     *
+     * @param threads maximum threads count
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withParallelExecution(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher);
+        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher, threads);
         final DropwizardLifecycleListener lifecycle = new DropwizardLifecycleListener(module.getCollector());
 
         environment
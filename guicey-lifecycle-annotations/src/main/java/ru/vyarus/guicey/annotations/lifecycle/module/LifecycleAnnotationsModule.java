@@ -24,7 +24,7 @@ import java.lang.annotation.Annotation;
 public class LifecycleAnnotationsModule extends AbstractModule {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
-    private final MethodsCollector collector = new MethodsCollector();
+    private final MethodsCollector collector;
 
     /**
      * Create lifecycle annotations module.
@@ -32,7 +32,18 @@ public class LifecycleAnnotationsModule extends AbstractModule {
      * @param typeMatcher target types matcher
      */
     public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher) {
+        this(typeMatcher, 1);
+    }
+
+    /**
+     * Create lifecycle annotations module.
+     *
+     * @param typeMatcher target types matcher
+     * @param threads     maximum threads count to call lifecycle methods concurrently (1 for sequential calls)
+     */
+    public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher, final int threads) {
         this.typeMatcher = typeMatcher;
+        this.collector = new MethodsCollector(threads);
     }
 
     /**
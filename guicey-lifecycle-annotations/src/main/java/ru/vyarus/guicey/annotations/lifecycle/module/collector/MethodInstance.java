@@ -1,12 +1,19 @@
 package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
+import com.google.common.base.Stopwatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 /**
  * Instance method abstraction. Holds both method and target instance object to easily perform call.
+ * <p>
+ * Instance could be held with weak reference (for non singleton beans) in order to not prevent instance garbage
+ * collection: method is not called for collected instance.
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -15,7 +22,10 @@ public class MethodInstance {
     private final Logger logger = LoggerFactory.getLogger(MethodInstance.class);
 
     private final Object instance;
+    private final InstanceReference reference;
+    private final Class<?> type;
     private final Method method;
+    private volatile Duration duration;
 
     /**
      * Create a method instance hodler.
@@ -24,27 +34,103 @@ public class MethodInstance {
      * @param method   target method
      */
     public MethodInstance(final Object instance, final Method method) {
-        this.instance = instance;
+        this(instance, method, null);
+    }
+
+    /**
+     * Create a method instance holder with weak instance reference.
+     *
+     * @param instance object instance
+     * @param method   target method
+     * @param queue    reference queue to track collected instances or null to hold instance with strong reference
+     */
+    public MethodInstance(final Object instance, final Method method, final ReferenceQueue<Object> queue) {
+        this.instance = queue == null ? instance : null;
+        this.reference = queue == null ? null : new InstanceReference(instance, queue, this);
+        this.type = instance.getClass();
         this.method = method;
     }
 
     /**
      * Calls method on instance.
      * <p>
-     * If method execution fails, exception is propagated.
+     * If method execution fails, exception is propagated. If instance was already garbage collected (weak
+     * reference), method is not called.
      */
     public void call() {
+        final Object target = getInstance();
+        if (target == null) {
+            logger.debug("Method {}.{} not executed: instance was garbage collected",
+                    type.getSimpleName(), method.getName());
+            return;
+        }
+        final Stopwatch timer = Stopwatch.createStarted();
         try {
             logger.debug("Executing method {}", this);
-            method.invoke(instance);
+            method.invoke(target);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to execute method " + this, ex);
+        } finally {
+            duration = timer.elapsed();
+            logger.debug("Method {} executed in {} ms", this, duration.toMillis());
         }
     }
 
+    /**
+     * @return target instance or null if weakly referenced instance was garbage collected
+     */
+    public Object getInstance() {
+        return reference == null ? instance : reference.get();
+    }
+
+    /**
+     * @return target instance type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return target method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return last execution time or null if method was not called yet
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return true if instance is held with weak reference
+     */
+    public boolean isWeak() {
+        return reference != null;
+    }
+
     @Override
     public String toString() {
-        return instance.getClass().getSimpleName() + "." + method.getName()
-                + " of instance " + instance.toString();
+        final Object target = getInstance();
+        return type.getSimpleName() + "." + method.getName()
+                + " of instance " + (target == null ? "(collected)" : target.toString());
+    }
+
+    /**
+     * Weak instance reference, aware of method holder (to remove holder after instance collection).
+     */
+    static class InstanceReference extends WeakReference<Object> {
+        private final MethodInstance owner;
+
+        InstanceReference(final Object referent, final ReferenceQueue<Object> queue, final MethodInstance owner) {
+            super(referent, queue);
+            this.owner = owner;
+        }
+
+        MethodInstance getOwner() {
+            return owner;
+        }
     }
 }
@@ -1,19 +1,48 @@
 package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton;
+import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
+import jakarta.inject.Singleton;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Registry for detected annotated methods. Used to collect and then process all found methods by annotation.
+ * <p>
+ * By default, methods are called sequentially (in registration order). In parallel mode methods are called
+ * concurrently with bounded thread pool. Methods are grouped by bean's {@link Order} annotation value (beans without
+ * annotation are called last): groups are processed sequentially and methods inside group concurrently.
+ * All methods in group are awaited and all errors aggregated.
+ * <p>
+ * Singleton beans (annotated with singleton annotation) are referenced directly and all other instances are held
+ * with weak references: prototype beans, created at runtime, would not be held by collector (collected instances
+ * are removed from registry). Methods, registered after annotation processing, are called immediately and not
+ * stored at all. Bean type metadata (singleton, order) is resolved once per type.
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -21,11 +50,33 @@ import java.util.List;
 public class MethodsCollector {
     private final Logger logger = LoggerFactory.getLogger(MethodsCollector.class);
 
-    private final Multimap<Class<? extends Annotation>, MethodInstance> listeners = LinkedListMultimap.create();
+    private final Map<Class<? extends Annotation>, Set<MethodInstance>> listeners = new HashMap<>();
 
     // first it prevents duplicate lifecycle call
     // second it used to detect late registrations for immediate execution
-    private final List<Class<? extends Annotation>> processed = new ArrayList<>();
+    private final Set<Class<? extends Annotation>> processed = new HashSet<>();
+
+    private final Map<Class<?>, TypeInfo> types = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    private final int threads;
+
+    /**
+     * Create collector with sequential methods execution.
+     */
+    public MethodsCollector() {
+        this(1);
+    }
+
+    /**
+     * Create collector.
+     *
+     * @param threads maximum threads count to call methods concurrently (1 for sequential execution)
+     */
+    public MethodsCollector(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+    }
 
     /**
      * Register lifecycle method.
@@ -37,10 +88,21 @@ public class MethodsCollector {
     public void register(final Class<? extends Annotation> annotation,
                          final Object instance,
                          final Method method) {
-        final MethodInstance methodInstance = new MethodInstance(instance, method);
-        listeners.put(annotation, methodInstance);
+        // guice AOP proxy class does not contain annotations, so metadata resolved from the real class
+        final boolean singleton = types.computeIfAbsent(instance.getClass(),
+                type -> new TypeInfo(FeatureUtils.getInstanceClass(instance))).singleton;
+        final MethodInstance methodInstance = new MethodInstance(instance, method, singleton ? null : collected);
+        final boolean late;
+        // registration could appear from lifecycle method, called in parallel
+        synchronized (listeners) {
+            purgeCollected();
+            late = processed.contains(annotation);
+            if (!late) {
+                listeners.computeIfAbsent(annotation, key -> new LinkedHashSet<>()).add(methodInstance);
+            }
+        }
         // could appear due to JIT (when bean not registered and being instantiated after injector creation (on demand))
-        if (processed.contains(annotation)) {
+        if (late) {
             logger.warn("@{} listener registered after event processing: {}. "
                     + "This could happen when bean is not registered and instantiated on demand "
                     + "(by guice JIT). "
@@ -72,18 +134,108 @@ public class MethodsCollector {
         doCall(annotation, true);
     }
 
+    /**
+     * Registered methods could be used to get methods execution time ({@link MethodInstance#getDuration()}).
+     *
+     * @param annotation target method annotation
+     * @return registered methods for annotation
+     */
+    public List<MethodInstance> getMethods(final Class<? extends Annotation> annotation) {
+        synchronized (listeners) {
+            return ImmutableList.copyOf(listeners.getOrDefault(annotation, Collections.emptySet()));
+        }
+    }
+
+    /**
+     * @return maximum threads count to call methods concurrently (1 for sequential execution)
+     */
+    public int getThreads() {
+        return threads;
+    }
+
     private void doCall(final Class<? extends Annotation> annotation, final boolean safe) {
-        Preconditions.checkState(!processed.contains(annotation),
-                "Lifecycle @%s methods were already processed", annotation.getSimpleName());
-        processed.add(annotation);
+        final List<MethodInstance> methods;
+        synchronized (listeners) {
+            Preconditions.checkState(!processed.contains(annotation),
+                    "Lifecycle @%s methods were already processed", annotation.getSimpleName());
+            processed.add(annotation);
+            purgeCollected();
+            methods = new ArrayList<>(listeners.getOrDefault(annotation, Collections.emptySet()));
+        }
 
-        final Collection<MethodInstance> methods = listeners.get(annotation);
         if (!methods.isEmpty()) {
             logger.debug("Executing @{} lifecycle methods", annotation.getSimpleName());
-            for (MethodInstance method : methods) {
-                callInstance(annotation, method, safe);
+            final Stopwatch timer = Stopwatch.createStarted();
+            if (threads > 1 && methods.size() > 1) {
+                callParallel(annotation, methods, safe);
+            } else {
+                for (MethodInstance method : methods) {
+                    callInstance(annotation, method, safe);
+                }
+            }
+            logger.debug("{} @{} lifecycle methods executed in {} ms", methods.size(), annotation.getSimpleName(),
+                    timer.elapsed().toMillis());
+        }
+    }
+
+    private void callParallel(final Class<? extends Annotation> annotation,
+                              final List<MethodInstance> methods,
+                              final boolean safe) {
+        final Map<Integer, List<MethodInstance>> groups = methods.stream()
+                .collect(Collectors.groupingBy(this::getOrder, TreeMap::new, Collectors.toList()));
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, methods.size()),
+                new ThreadFactoryBuilder().setNameFormat("guicey-lifecycle-%d").setDaemon(true).build());
+        try {
+            for (List<MethodInstance> group : groups.values()) {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (MethodInstance method : group) {
+                    futures.add(executor.submit(() -> callInstance(annotation, method, safe)));
+                }
+                awaitGroup(annotation, futures);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitGroup(final Class<? extends Annotation> annotation, final List<Future<?>> futures) {
+        final List<Throwable> errors = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                errors.add(ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for @"
+                        + annotation.getSimpleName() + " methods", ex);
             }
         }
+        if (errors.size() == 1) {
+            // preserve error message for the single failure (the same as in sequential mode)
+            final Throwable error = errors.get(0);
+            throw error instanceof RuntimeException ? (RuntimeException) error : new IllegalStateException(error);
+        } else if (!errors.isEmpty()) {
+            final IllegalStateException ex = new IllegalStateException(String.format(
+                    "%s @%s methods failed: %s", errors.size(), annotation.getSimpleName(), errors.stream()
+                            .map(Throwable::getMessage).collect(Collectors.joining("; "))), errors.get(0));
+            errors.stream().skip(1).forEach(ex::addSuppressed);
+            throw ex;
+        }
+    }
+
+    private int getOrder(final MethodInstance method) {
+        // type info always registered on method registration
+        return types.get(method.getType()).order;
+    }
+
+    private void purgeCollected() {
+        Reference<?> ref = collected.poll();
+        while (ref != null) {
+            final MethodInstance method = ((MethodInstance.InstanceReference) ref).getOwner();
+            listeners.values().forEach(methods -> methods.remove(method));
+            ref = collected.poll();
+        }
     }
 
     private void callInstance(final Class<? extends Annotation> annotation,
@@ -100,4 +252,20 @@ public class MethodsCollector {
             }
         }
     }
+
+    /**
+     * Bean type metadata.
+     */
+    private static class TypeInfo {
+        private final boolean singleton;
+        private final int order;
+
+        TypeInfo(final Class<?> cls) {
+            this.singleton = cls.isAnnotationPresent(Singleton.class)
+                    || cls.isAnnotationPresent(com.google.inject.Singleton.class)
+                    || cls.isAnnotationPresent(EagerSingleton.class);
+            final Order ann = cls.getAnnotation(Order.class);
+            this.order = ann == null ? Integer.MAX_VALUE : ann.value();
+        }
+    }
 }
@@ -5,6 +5,8 @@ import ru.vyarus.guice.ext.core.util.Utils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Post processor implementation for registration of all found annotated methods inside collector.
@@ -16,6 +18,8 @@ import java.lang.reflect.Method;
 public class SimpleAnnotationProcessor<T extends Annotation> implements MethodPostProcessor<T> {
 
     private final MethodsCollector collector;
+    // methods validation performed once (not for each instance)
+    private final Set<Method> checked = ConcurrentHashMap.newKeySet();
 
     /**
      * Create annotation processor.
@@ -28,7 +32,10 @@ public class SimpleAnnotationProcessor<T extends Annotation> implements MethodPo
 
     @Override
     public void process(final T annotation, final Method method, final Object instance) throws Exception {
-        Utils.checkNoParams(method);
+        if (!checked.contains(method)) {
+            Utils.checkNoParams(method);
+            checked.add(method);
+        }
         collector.register(annotation.annotationType(), instance, method);
     }
 }
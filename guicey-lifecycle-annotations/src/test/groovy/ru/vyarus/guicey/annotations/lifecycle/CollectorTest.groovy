@@ -1,9 +1,17 @@
 package ru.vyarus.guicey.annotations.lifecycle
 
+import com.google.inject.AbstractModule
+import com.google.inject.Guice
+import com.google.inject.matcher.Matchers
+import org.aopalliance.intercept.MethodInterceptor
+import org.aopalliance.intercept.MethodInvocation
 import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
 import spock.lang.Specification
 
 import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.lang.ref.WeakReference
 
 /**
  * @author Vyacheslav Rusakov
@@ -21,4 +29,82 @@ class CollectorTest extends Specification {
         def ex = thrown(IllegalStateException)
         ex.message == "Lifecycle @PostConstruct methods were already processed"
     }
+
+    def "Check late registration not stored"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        collector.call(PostConstruct)
+        Bean bean = new Bean()
+
+        when: "registering after processing"
+        collector.register(PostConstruct, bean, Bean.getDeclaredMethod('init'))
+        then: "called immediately"
+        bean.called
+        collector.getMethods(PostConstruct).isEmpty()
+    }
+
+    def "Check instances references"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+
+        when: "registering singleton and prototype"
+        collector.register(PreDestroy, new SingletonBean(), SingletonBean.getDeclaredMethod('init'))
+        collector.register(PreDestroy, new Bean(), Bean.getDeclaredMethod('init'))
+        then: "only prototype weakly referenced"
+        collector.getMethods(PreDestroy).collect { it.weak } == [false, true]
+
+        when: "prototype instance collected"
+        WeakReference<Object> probe = new WeakReference<>(collector.getMethods(PreDestroy)[1].instance)
+        int i = 0
+        while (probe.get() != null && i++ < 50) {
+            System.gc()
+            sleep(10)
+        }
+        // registration purges collected instances
+        collector.register(PreDestroy, new SingletonBean(), SingletonBean.getDeclaredMethod('init'))
+        then: "removed from registry"
+        probe.get() == null
+        collector.getMethods(PreDestroy).collect { it.weak } == [false, false]
+    }
+
+    def "Check guice AOP proxy metadata"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        AopBean bean = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindInterceptor(Matchers.subclassesOf(AopBean), Matchers.any(),
+                        { MethodInvocation it -> it.proceed() } as MethodInterceptor)
+            }
+        }).getInstance(AopBean)
+
+        when: "registering proxied singleton"
+        collector.register(PreDestroy, bean, AopBean.getDeclaredMethod('init'))
+        then: "annotations resolved from real class"
+        bean.class != AopBean
+        collector.getMethods(PreDestroy).collect { it.weak } == [false]
+    }
+
+    static class Bean {
+        boolean called
+
+        void init() {
+            called = true
+        }
+    }
+
+    @Singleton
+    static class SingletonBean {
+        void init() {
+        }
+    }
+
+    @Singleton
+    static class AopBean {
+        void init() {
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.module.installer.order.Order
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import spock.lang.Specification
+
+import jakarta.annotation.PostConstruct
+import jakarta.inject.Inject
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ParallelExecutionTest extends Specification {
+
+    static CountDownLatch latch = new CountDownLatch(3)
+    static List<String> calls = new CopyOnWriteArrayList<>()
+
+    @Inject
+    Bean1 bean1
+    @Inject
+    Bean2 bean2
+    @Inject
+    Bean3 bean3
+    @Inject
+    FirstBean first
+
+    def "Check parallel execution"() {
+
+        expect: "all methods called concurrently"
+        bean1.called
+        bean2.called
+        bean3.called
+
+        and: "ordered group called first"
+        calls.first() == 'first'
+        calls.size() == 4
+    }
+
+    def "Check errors aggregation"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector(4)
+        collector.register(PostConstruct, new Failure(), Failure.getDeclaredMethod('fail'))
+        collector.register(PostConstruct, new Failure(), Failure.getDeclaredMethod('fail'))
+        collector.register(PostConstruct, new Success(), Success.getDeclaredMethod('run'))
+
+        when: "calling failing methods"
+        collector.call(PostConstruct)
+        then: "errors aggregated"
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith('2 @PostConstruct methods failed')
+        ex.suppressed.length == 1
+        collector.getMethods(PostConstruct).every { it.duration != null }
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap
+                    .addBundle(GuiceBundle.builder()
+                            .bundles(new LifecycleAnnotationsBundle().withParallelExecution(4))
+                            .extensions(Bean1, Bean2, Bean3, FirstBean)
+                            .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class AbstractBean {
+        boolean called
+
+        @PostConstruct
+        void start() {
+            assert calls.contains('first')
+            calls.add(getClass().simpleName)
+            latch.countDown()
+            // would fail if methods called sequentially
+            called = latch.await(5, TimeUnit.SECONDS)
+        }
+    }
+
+    @EagerSingleton
+    static class Bean1 extends AbstractBean {
+    }
+
+    @EagerSingleton
+    static class Bean2 extends AbstractBean {
+    }
+
+    @EagerSingleton
+    static class Bean3 extends AbstractBean {
+    }
+
+    @EagerSingleton
+    @Order(1)
+    static class FirstBean {
+
+        @PostConstruct
+        void start() {
+            calls.add('first')
+        }
+    }
+
+    static class Failure {
+        void fail() {
+            throw new IllegalStateException("ups")
+        }
+    }
+
+    static class Success {
+        void run() {
+        }
+    }
+}
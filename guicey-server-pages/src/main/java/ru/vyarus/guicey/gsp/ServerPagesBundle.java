@@ -25,6 +25,7 @@ import ru.vyarus.guicey.gsp.app.ext.ServerPagesAppExtensionBundle;
 import ru.vyarus.guicey.gsp.app.rest.log.RestPathsAnalyzer;
 import ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter;
+import ru.vyarus.guicey.gsp.app.rest.support.TemplateContextInterceptor;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateErrorResponseFilter;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateExceptionListener;
 import ru.vyarus.guicey.gsp.info.GspInfoModule;
@@ -358,6 +359,8 @@ public class ServerPagesBundle extends UniqueGuiceyBundle {
                         TemplateAnnotationFilter.class,
                         // template rest errors interception (global handlers)
                         TemplateErrorResponseFilter.class,
+                        // template context binding for async rendering
+                        TemplateContextInterceptor.class,
                         // intercept rest (template) rendering exceptions in rest
                         TemplateExceptionListener.class,
                         // Direct templates support
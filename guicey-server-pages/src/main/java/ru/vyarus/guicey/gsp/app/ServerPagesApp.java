@@ -26,8 +26,11 @@ import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestSources;
 import ru.vyarus.guicey.gsp.info.model.GspApp;
 import ru.vyarus.guicey.gsp.views.ViewRendererConfigurationModifier;
 import ru.vyarus.guicey.spa.SpaBundle;
+import ru.vyarus.guicey.spa.filter.AssetsCacheFilter;
 
 import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletRegistration;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -87,6 +90,14 @@ public class ServerPagesApp {
      * Assets detection pattern (to prevent redirection to the index page).
      */
     protected String spaNoRedirectRegex = SpaBundle.DEFAULT_PATTERN;
+    /**
+     * Resolved assets cache size (0 to disable).
+     */
+    protected int assetsCacheSize;
+    /**
+     * In-memory assets content cache size in bytes (0 to disable).
+     */
+    protected long assetsContentCacheSize;
     /**
      * Delayed modifiers registration.
      */
@@ -172,6 +183,7 @@ public class ServerPagesApp {
                 assets,
                 new ErrorRedirect(uriPath, errorPages, spa));
         installTemplatesSupportFilter(context, templateRedirect, spa, config.getRenderers());
+        installAssetsCacheFilter(context);
     }
 
     /**
@@ -222,6 +234,9 @@ public class ServerPagesApp {
         res.setViewPaths(ImmutableList.copyOf(viewPaths));
         res.setHiddenViewPaths(hiddenViewPaths.isEmpty() ? Collections.emptyList()
                 : ImmutableList.copyOf(hiddenViewPaths));
+
+        res.setTemplateCacheHits(assets.getTemplateCacheHits());
+        res.setTemplateCacheMisses(assets.getTemplateCacheMisses());
         return res;
     }
 
@@ -263,7 +278,7 @@ public class ServerPagesApp {
         }
 
         // process paths the same way as assets servlet does
-        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build());
+        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build(), assetsCacheSize);
     }
 
     private ViewRestLookup collectViews(final ServerPagesGlobalState config) {
@@ -294,10 +309,12 @@ public class ServerPagesApp {
      * @param context main or admin context
      */
     private void installAssetsServlet(final ServletEnvironment context) {
-        final Set<String> clash = context.addServlet(name,
-                        // note: if index file is template, it will be handled by filter
-                        new AssetResolutionServlet(assets, uriPath, indexFile, StandardCharsets.UTF_8))
-                .addMapping(uriPath + '*');
+        final ServletRegistration.Dynamic servlet = context.addServlet(name,
+                // note: if index file is template, it will be handled by filter
+                new AssetResolutionServlet(assets, uriPath, indexFile, StandardCharsets.UTF_8));
+        // required for asynchronous view resources (filter redirects into rest servlet)
+        servlet.setAsyncSupported(true);
+        final Set<String> clash = servlet.addMapping(uriPath + '*');
 
         if (clash != null && !clash.isEmpty()) {
             throw new IllegalStateException(String.format(
@@ -319,15 +336,31 @@ public class ServerPagesApp {
                                                final SpaSupport spa,
                                                final List<ViewRenderer> renderers) {
         final EnumSet<DispatcherType> types = EnumSet.of(DispatcherType.REQUEST, DispatcherType.FORWARD);
-        context.addFilter(name + "Templates",
-                        new ServerPagesFilter(
-                                fullUriPath,
-                                fileRequestPattern,
-                                indexFile,
-                                templateRedirect,
-                                spa,
-                                renderers))
-                .addMappingForServletNames(types, false, name);
+        final FilterRegistration.Dynamic filter = context.addFilter(name + "Templates",
+                new ServerPagesFilter(
+                        fullUriPath,
+                        fileRequestPattern,
+                        indexFile,
+                        templateRedirect,
+                        spa,
+                        renderers));
+        // required for asynchronous view resources
+        filter.setAsyncSupported(true);
+        filter.addMappingForServletNames(types, false, name);
+    }
+
+    /**
+     * Install assets content cache (if enabled). Must be registered after templates filter (templates filter
+     * delegates to servlet only for assets).
+     *
+     * @param context main or admin context
+     */
+    private void installAssetsCacheFilter(final ServletEnvironment context) {
+        if (assetsContentCacheSize > 0) {
+            context.addFilter(name + "Cache", new AssetsCacheFilter(
+                            path -> assets.lookupUrl(assets.getPrimaryLocation() + path), assetsContentCacheSize))
+                    .addMappingForServletNames(EnumSet.of(DispatcherType.REQUEST), false, name);
+        }
     }
 
     private void analyzePaths(final RestPathsAnalyzer analyzer) {
@@ -317,6 +317,37 @@ public class ServerPagesAppBundle implements GuiceyBundle {
             return attachAssets("META-INF/resources/webjars/");
         }
 
+        /**
+         * Enables assets resolution results cache (found classpath location for requested url, including not found
+         * assets) to avoid classpath probing on each request. The same cache is used for resolved templates.
+         * Cache is disabled by default: with enabled cache, resources added while application is running
+         * (e.g. in development mode) would not be found until cache is cleared.
+         *
+         * @param size resolved assets cache size (0 to disable cache)
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.gsp.app.asset.AssetLookup
+         */
+        public AppBuilder assetsCache(final int size) {
+            checkArgument(size >= 0, "Cache size can't be negative");
+            app.assetsCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Enables in-memory assets content cache: assets content is loaded on first request and served from memory
+         * (compressible assets are also stored in gzipped form). Least recently used assets are evicted when
+         * total size exceeds the limit. Cache is disabled by default.
+         *
+         * @param maxSize maximum cache size in bytes
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.spa.filter.AssetsCacheFilter
+         */
+        public AppBuilder cacheAssetsContent(final long maxSize) {
+            checkArgument(maxSize > 0, "Cache size must be positive");
+            app.assetsContentCacheSize = maxSize;
+            return this;
+        }
+
         /**
          * Differentiation of template call from static resource is based on fact: static resources
          * have extensions. So when "/something/some.ext" is requested and extension is not supported template
@@ -1,6 +1,8 @@
 package ru.vyarus.guicey.gsp.app.asset;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Multimap;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 
@@ -9,7 +11,10 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
 
@@ -35,6 +40,11 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
  * Overall, lookup performs two operations: lookup classpath path by url (probably using extra mapping) and
  * resource loading itself. First phase obviously performs lookup too (duplicates second phase), but separate
  * phases are still required to be able to lookup templates directly (using proper class loader).
+ * <p>
+ * Resolution results (including not found assets) could be cached (bounded cache), so classpath is not probed
+ * on each asset request. Cache is disabled by default (zero cache size) because resources, appeared at runtime
+ * (e.g. in development), would not be visible until cache is cleared with {@link #clearCache()}. The same cache
+ * size is used for resolved templates cache (see {@link #lookupTemplate(String, Supplier)}).
  *
  * @author Vyacheslav Rusakov
  * @since 26.11.2019
@@ -53,9 +63,23 @@ public class AssetLookup implements Serializable {
      * Mapping of package to class loader (implicitly sorted by keys).
      */
     private final Multimap<String, ClassLoader> loaders;
+    /**
+     * Resolved relative paths cache (null when cache disabled or after deserialization).
+     */
+    private final transient Cache<String, Optional<AssetLocation>> lookupCache;
+    /**
+     * Loaded absolute paths cache (null when cache disabled or after deserialization).
+     */
+    private final transient Cache<String, Optional<URL>> loadCache;
+    /**
+     * Resolved templates cache (null when cache disabled or after deserialization).
+     */
+    private final transient Cache<String, ResolvedTemplate> templatesCache;
+    private final AtomicLong templateHits = new AtomicLong();
+    private final AtomicLong templateMisses = new AtomicLong();
 
     /**
-     * Create an assets lookup object.
+     * Create an assets lookup object without resolution cache.
      *
      * @param primaryLocation primary location
      * @param locations       other locations
@@ -64,6 +88,21 @@ public class AssetLookup implements Serializable {
     public AssetLookup(final String primaryLocation,
                        final Multimap<String, String> locations,
                        final Multimap<String, ClassLoader> loaders) {
+        this(primaryLocation, locations, loaders, 0);
+    }
+
+    /**
+     * Create an assets lookup object.
+     *
+     * @param primaryLocation primary location
+     * @param locations       other locations
+     * @param loaders         asset loaders
+     * @param cacheSize       resolved assets cache size (0 to disable cache)
+     */
+    public AssetLookup(final String primaryLocation,
+                       final Multimap<String, String> locations,
+                       final Multimap<String, ClassLoader> loaders,
+                       final int cacheSize) {
         // primary location without leading slash!
         this.primaryLocation = primaryLocation;
         // assume immutable map, properly built: keys sorted from longest to smaller (root locations last),
@@ -72,6 +111,9 @@ public class AssetLookup implements Serializable {
         this.locations = locations;
         // assume keys sorted the same, also immutable
         this.loaders = loaders;
+        this.lookupCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+        this.loadCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+        this.templatesCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
     }
 
     /**
@@ -170,6 +212,76 @@ public class AssetLookup implements Serializable {
      * @return found resource or null
      */
     public URL load(final String assetPath) {
+        return cached(loadCache, assetPath, () -> doLoad(assetPath));
+    }
+
+    /**
+     * General lookup mechanism (used by {@link #lookupUrl(String)} and {@link #lookupPath(String)} shortcuts.
+     * <p>
+     * Lookup asset in classpath by path (relative to application root).
+     * Assets, registered to exact path processed in priority. For example, if assets registered for '/foo/bar/'
+     * path then path '/foo/bar/sample.css' will be checked first in path-specific assets. Multiple asset packages
+     * could be configured on each path: assets checked in registration-reverse order to grant regitstration
+     * order priority (resources from package, registered later are prioritized).
+     *
+     * @param path path to find asset for
+     * @return matched location or null if not found
+     */
+    public AssetLocation lookup(final String path) {
+        return cached(lookupCache, path, () -> doLookup(path));
+    }
+
+    /**
+     * Cached template resolution. Template resolution result depends only on template name and rendering context
+     * (resource class and rest sub context), which must be encoded in the provided key. Not found templates are
+     * also cached (resolver must return {@link ResolvedTemplate#notFound(String)} result, so the caller could
+     * report the original error for cached negative result). Resolver is called on each lookup when cache is
+     * disabled (default), so templates added at runtime are always found.
+     *
+     * @param key      template resolution key (template with resolution context)
+     * @param resolver template resolution logic
+     * @return template resolution result
+     */
+    public ResolvedTemplate lookupTemplate(final String key, final Supplier<ResolvedTemplate> resolver) {
+        ResolvedTemplate res = templatesCache == null ? null : templatesCache.getIfPresent(key);
+        if (res == null) {
+            templateMisses.incrementAndGet();
+            res = resolver.get();
+            if (templatesCache != null) {
+                templatesCache.put(key, res);
+            }
+        } else {
+            templateHits.incrementAndGet();
+        }
+        return res;
+    }
+
+    /**
+     * @return count of template resolutions served from cache
+     */
+    public long getTemplateCacheHits() {
+        return templateHits.get();
+    }
+
+    /**
+     * @return count of performed template resolutions (not found in cache or cache disabled)
+     */
+    public long getTemplateCacheMisses() {
+        return templateMisses.get();
+    }
+
+    /**
+     * Clear resolved assets and templates cache (required only if classpath resources could change at runtime).
+     */
+    public void clearCache() {
+        if (lookupCache != null) {
+            lookupCache.invalidateAll();
+            loadCache.invalidateAll();
+            templatesCache.invalidateAll();
+        }
+    }
+
+    private URL doLoad(final String assetPath) {
         URL res;
 
         // first, assume absolute path search (assumed to be already resolved to correct absolute classpath path)
@@ -200,19 +312,7 @@ public class AssetLookup implements Serializable {
         return res;
     }
 
-    /**
-     * General lookup mechanism (used by {@link #lookupUrl(String)} and {@link #lookupPath(String)} shortcuts.
-     * <p>
-     * Lookup asset in classpath by path (relative to application root).
-     * Assets, registered to exact path processed in priority. For example, if assets registered for '/foo/bar/'
-     * path then path '/foo/bar/sample.css' will be checked first in path-specific assets. Multiple asset packages
-     * could be configured on each path: assets checked in registration-reverse order to grant regitstration
-     * order priority (resources from package, registered later are prioritized).
-     *
-     * @param path path to find asset for
-     * @return matched location or null if not found
-     */
-    public AssetLocation lookup(final String path) {
+    private AssetLocation doLookup(final String path) {
         final String relativePath = getRelativePath(path);
         AssetLocation res = null;
         final String assetPath = CharMatcher.is('/').trimLeadingFrom(relativePath);
@@ -279,6 +379,19 @@ public class AssetLookup implements Serializable {
         return res;
     }
 
+    private <T> T cached(final Cache<String, Optional<T>> cache, final String key, final Supplier<T> resolver) {
+        if (cache == null) {
+            return resolver.get();
+        }
+        Optional<T> res = cache.getIfPresent(key);
+        if (res == null) {
+            // not found results are also cached
+            res = Optional.ofNullable(resolver.get());
+            cache.put(key, res);
+        }
+        return res.orElse(null);
+    }
+
     private AssetLocation find(final String path, final Iterable<ClassLoader> loaders) {
         AssetLocation res = null;
         for (ClassLoader loader : loaders) {
@@ -295,6 +408,56 @@ public class AssetLookup implements Serializable {
         return target != null ? new AssetLocation(path, loader, target) : null;
     }
 
+    /**
+     * Template resolution result: resolved path or not found error.
+     */
+    public static final class ResolvedTemplate {
+        private final String path;
+        private final String error;
+
+        private ResolvedTemplate(final String path, final String error) {
+            this.path = path;
+            this.error = error;
+        }
+
+        /**
+         * @param path resolved absolute template path
+         * @return found template result
+         */
+        public static ResolvedTemplate found(final String path) {
+            return new ResolvedTemplate(path, null);
+        }
+
+        /**
+         * @param error template not found error message
+         * @return not found template result
+         */
+        public static ResolvedTemplate notFound(final String error) {
+            return new ResolvedTemplate(null, error);
+        }
+
+        /**
+         * @return true if template found
+         */
+        public boolean isFound() {
+            return error == null;
+        }
+
+        /**
+         * @return resolved absolute template path or null if not found
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return not found error message or null if template found
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
     /**
      * Represent resolved asset location: actual classpath path (absolute) and target class loader (where resource
      * found). Object used to cover various situations: only target classpath path required or file itself.
@@ -1,11 +1,14 @@
 package ru.vyarus.guicey.gsp.app.filter;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.dropwizard.views.common.View;
 import io.dropwizard.views.common.ViewRenderer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+import ru.vyarus.guicey.gsp.ServerPagesBundle;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
 import ru.vyarus.guicey.gsp.app.filter.redirect.SpaSupport;
 import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
@@ -21,6 +24,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.Response;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,19 +49,32 @@ import java.util.regex.Pattern;
  * <p>
  * When SPA support is enabled, intercepted 404 error is checked if spa routing detected and do index redirect
  * instead of showing error page.
+ * <p>
+ * Renderer selection depends only on file extension, so decision (renderer or asset) is cached per extension.
+ * Default file detection pattern is evaluated without regexp.
  *
  * @author Vyacheslav Rusakov
  * @since 22.10.2018
  */
 public class ServerPagesFilter implements Filter {
+    // extensions are limited by detection pattern, but still could be anything
+    private static final int MAX_CACHED_EXTENSIONS = 200;
+
     private final Logger logger = LoggerFactory.getLogger(ServerPagesFilter.class);
 
     // server app mapping
     private final String uriPath;
     // file requets detection regexp
     private final Pattern filePattern;
+    // true when default pattern used (could be evaluated without regexp)
+    private final boolean defaultPattern;
     // index page
     private final String index;
+    // index page if it is a file (null otherwise)
+    private final String indexFile;
+    // extension -> renderer (empty for assets)
+    private final Cache<String, Optional<ViewRenderer>> renderersCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EXTENSIONS).build();
 
     private final TemplateRedirect redirect;
     private final SpaSupport spa;
@@ -81,7 +98,10 @@ public class ServerPagesFilter implements Filter {
                              final Iterable<ViewRenderer> renderers) {
         this.uriPath = uriPath;
         this.filePattern = Pattern.compile(filePattern);
+        this.defaultPattern = ServerPagesBundle.FILE_REQUEST_PATTERN.equals(filePattern);
         this.index = index;
+        // check if index page is a file (and not some path)
+        this.indexFile = this.filePattern.matcher(index).find() ? index : null;
         this.redirect = redirect;
         this.spa = spa;
         this.renderers = renderers;
@@ -141,11 +161,15 @@ public class ServerPagesFilter implements Filter {
 
     private String findFileInPath(final HttpServletRequest req) {
         if (isRoot(req)) {
-            // check if index page is a file (and not some path)
-            return filePattern.matcher(index).find() ? index : null;
+            return indexFile;
         }
 
-        final Matcher matcher = filePattern.matcher(req.getRequestURI());
+        final String uri = req.getRequestURI();
+        // query part is not expected in request uri, but regexp support it
+        if (defaultPattern && uri.indexOf('?') < 0) {
+            return findFileName(uri);
+        }
+        final Matcher matcher = filePattern.matcher(uri);
         final boolean detected = matcher.find();
         Preconditions.checkState(!detected || matcher.groupCount() > 0,
                 "File detection pattern %s did not contain file capture group (1)",
@@ -161,14 +185,47 @@ public class ServerPagesFilter implements Filter {
     }
 
     private ViewRenderer findRenderer(final String file) {
-        final View view = new DummyView(file);
-        for (ViewRenderer renderer : renderers) {
-            if (renderer.isRenderable(view)) {
-                logger.debug("Possible direct {} template {} request", renderer.getConfigurationKey(), file);
-                return renderer;
+        final String ext = file.substring(file.lastIndexOf('.') + 1);
+        Optional<ViewRenderer> res = renderersCache.getIfPresent(ext);
+        if (res == null) {
+            res = Optional.empty();
+            final View view = new DummyView(file);
+            for (ViewRenderer renderer : renderers) {
+                if (renderer.isRenderable(view)) {
+                    res = Optional.of(renderer);
+                    break;
+                }
+            }
+            renderersCache.put(ext, res);
+        }
+        if (res.isPresent() && logger.isDebugEnabled()) {
+            logger.debug("Possible direct {} template {} request", res.get().getConfigurationKey(), file);
+        }
+        return res.orElse(null);
+    }
+
+    /**
+     * Equivalent of {@link ServerPagesBundle#FILE_REQUEST_PATTERN} for paths without query part: last path segment,
+     * containing extension (alphanumeric characters after the last dot).
+     *
+     * @param uri request uri (without query part)
+     * @return file name or null if path is not a file
+     */
+    static String findFileName(final String uri) {
+        final String name = uri.substring(uri.lastIndexOf('/') + 1);
+        final int dot = name.lastIndexOf('.');
+        if (dot < 1 || dot == name.length() - 1) {
+            return null;
+        }
+        for (int i = dot + 1; i < name.length(); i++) {
+            final char ch = name.charAt(i);
+            final boolean alphanumeric = (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')
+                    || (ch >= '0' && ch <= '9');
+            if (!alphanumeric) {
+                return null;
             }
         }
-        return null;
+        return name;
     }
 
     private void serveAsset(final HttpServletRequest req,
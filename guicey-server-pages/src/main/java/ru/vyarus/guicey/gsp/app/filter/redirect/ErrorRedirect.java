@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.gsp.app.filter.AssetError;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateRestCodeError;
+import ru.vyarus.guicey.gsp.views.template.TemplateContext;
 import ru.vyarus.guicey.spa.filter.SpaUtils;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +28,9 @@ import java.util.Map;
  * Asset errors are intercepted directly inside {@link ru.vyarus.guicey.gsp.app.filter.ServerPagesFilter}.
  * Rest errors are intercepted with {@link ru.vyarus.guicey.gsp.app.rest.support.TemplateExceptionListener}
  * and {@link ru.vyarus.guicey.gsp.app.rest.support.TemplateErrorResponseFilter}.
+ * <p>
+ * Error context (original error for error page rendering) is stored in request attributes (error page is rendered
+ * with forward, re-using the same request).
  *
  * @author Vyacheslav Rusakov
  * @since 07.12.2018
@@ -42,7 +46,7 @@ public class ErrorRedirect {
      */
     public static final int CODE_400 = 400;
 
-    private static final ThreadLocal<ErrorContext> CONTEXT_ERROR = new ThreadLocal<>();
+    private static final String CONTEXT_ERROR = ErrorRedirect.class.getName() + ".error";
     private final Logger logger = LoggerFactory.getLogger(ErrorRedirect.class);
 
     private final Map<Integer, String> errorPages;
@@ -86,10 +90,10 @@ public class ErrorRedirect {
      * Note: method is not supposed to be used directly as error object is directly available in model:
      * {@link ru.vyarus.guicey.gsp.views.template.ErrorTemplateView#getError()}.
      *
-     * @return thread bound exception to use in error page rendering or null if no error bound
+     * @return exception to use in error page rendering (for current template context)
      */
     public static WebApplicationException getContextError() {
-        return getContext().exception;
+        return getContext(currentRequest()).exception;
     }
 
     /**
@@ -98,14 +102,22 @@ public class ErrorRedirect {
      * @return url of original page (before redirect to error page)
      */
     public static String getContextErrorOriginalUrl() {
-        return getContext().originalUrl;
+        return getContext(currentRequest()).originalUrl;
     }
 
     /**
      * @return true indicate error page rendering, false in all other cases
      */
     public static boolean hasContextError() {
-        return CONTEXT_ERROR.get() != null;
+        return hasContextError(currentRequest());
+    }
+
+    /**
+     * @param request current request (may be null)
+     * @return true indicate error page rendering, false in all other cases
+     */
+    public static boolean hasContextError(final HttpServletRequest request) {
+        return request != null && request.getAttribute(CONTEXT_ERROR) != null;
     }
 
     private String selectErrorPage(final WebApplicationException exception) {
@@ -123,13 +135,13 @@ public class ErrorRedirect {
         // special case: error during error page rendering (original error code returned)
         return handleErrorRenderingError(exception, request, response)
                 // redirect to error page (note it will be completely new processing cycle, starting from filter)
-                || (CONTEXT_ERROR.get() == null && handleErrorRedirect(exception, request, response));
+                || (!hasContextError(request) && handleErrorRedirect(exception, request, response));
     }
 
     private boolean handleErrorRenderingError(final WebApplicationException exception,
                                               final HttpServletRequest request,
                                               final HttpServletResponse response) {
-        final ErrorContext context = CONTEXT_ERROR.get();
+        final ErrorContext context = (ErrorContext) request.getAttribute(CONTEXT_ERROR);
         if (context != null && !context.processed) {
             // logged as debug, because most likely dropwizard will log it (hiding duplicate with debug level)
             logger.debug("Error page '" + request.getRequestURI() + "' processing error", exception);
@@ -150,7 +162,7 @@ public class ErrorRedirect {
             logger.debug("Redirecting failed '{}' request to '{}' error page", request.getRequestURI(), path);
             // to be able to access exception in error view
             final ErrorContext context = new ErrorContext(exception, request);
-            CONTEXT_ERROR.set(context);
+            request.setAttribute(CONTEXT_ERROR, context);
             try {
                 // clear error status
                 response.reset();
@@ -165,7 +177,7 @@ public class ErrorRedirect {
                 onUnexpectedError(path, request.getRequestURI(), exception.getResponse().getStatus(),
                         exception, response);
             } finally {
-                CONTEXT_ERROR.remove();
+                request.removeAttribute(CONTEXT_ERROR);
             }
             return true;
         }
@@ -190,7 +202,7 @@ public class ErrorRedirect {
                         + "Error code %s will be returned instead of error page.",
                 errorPage, originalPage, ex, code));
         try {
-            response.setStatus(CONTEXT_ERROR.get().exception.getResponse().getStatus());
+            response.setStatus(code);
             // commit response so jersey will not try to handle it
             response.flushBuffer();
         } catch (IOException e) {
@@ -198,8 +210,14 @@ public class ErrorRedirect {
         }
     }
 
-    private static ErrorContext getContext() {
-        return Preconditions.checkNotNull(CONTEXT_ERROR.get(), "No context error");
+    private static HttpServletRequest currentRequest() {
+        final TemplateContext context = TemplateRedirect.templateContext();
+        return context == null ? null : context.getRequest();
+    }
+
+    private static ErrorContext getContext(final HttpServletRequest request) {
+        return Preconditions.checkNotNull(request == null ? null : (ErrorContext) request.getAttribute(CONTEXT_ERROR),
+                "No context error");
     }
 
 
@@ -5,6 +5,7 @@ import jakarta.servlet.Servlet;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.container.ContainerRequestContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
@@ -15,6 +16,7 @@ import ru.vyarus.guicey.gsp.app.util.TemplateRequest;
 import ru.vyarus.guicey.gsp.views.template.TemplateContext;
 
 import java.io.IOException;
+import java.util.concurrent.Callable;
 
 /**
  * Performs redirection of template request into rest context. Note that even if no special rest
@@ -31,12 +33,23 @@ import java.io.IOException;
  * <p>
  * Important: resources must use {@link ru.vyarus.guicey.gsp.views.template.TemplateView} as base template model class
  * in order to properly support {@link ru.vyarus.guicey.gsp.views.template.Template} annotation.
+ * <p>
+ * Template context is stored as request attribute ({@link #CONTEXT_ATTRIBUTE}) and so available for jersey
+ * components on any thread (through {@link ContainerRequestContext} properties, which are backed by servlet
+ * request attributes). Context is also bound to the current thread during synchronous request processing
+ * (for {@link TemplateContext#getInstance()}). For asynchronous processing (or any other thread) context could be
+ * bound explicitly with {@link TemplateContext#call(Callable)}.
  *
  * @author Vyacheslav Rusakov
  * @since 03.12.2018
  */
 public class TemplateRedirect {
 
+    /**
+     * Request attribute name used to store template context.
+     */
+    public static final String CONTEXT_ATTRIBUTE = TemplateContext.class.getName();
+
     private static final ThreadLocal<TemplateContext> CONTEXT_TEMPLATE = new ThreadLocal<>();
 
     private final Logger logger = LoggerFactory.getLogger(TemplateRedirect.class);
@@ -114,7 +127,7 @@ public class TemplateRedirect {
         // for root context will be empty
         final String contextUrl = views.lookupSubContext(page);
         final String restPrefix = views.lookupRestPrefix(contextUrl);
-        CONTEXT_TEMPLATE.set(new TemplateContext(app,
+        final TemplateContext context = new TemplateContext(app,
                 mapping,
                 contextUrl,
                 restPrefix,
@@ -122,17 +135,29 @@ public class TemplateRedirect {
                 assets,
                 errorRedirect,
                 request,
-                response));
+                response);
+        // error page forward will re-use the same request (context must be recovered after it)
+        final Object previous = request.getAttribute(CONTEXT_ATTRIBUTE);
+        request.setAttribute(CONTEXT_ATTRIBUTE, context);
         try {
             final String path = PathUtils.path(rootPath, views.buildRestPath(contextUrl, page));
             logger.debug("Redirecting '{}' to view path '{}' (app context: {}, rest mapping prefix: {})",
                     page, path, contextUrl.isEmpty() ? PathUtils.SLASH : contextUrl, PathUtils.SLASH + restPrefix);
             // this moment is especially important for admin apps where context could be radically different
-            restServlet.service(
-                    new TemplateRequest(request, path, restContextPath, restServletMapping), response);
-
+            withContext(context, () -> {
+                restServlet.service(
+                        new TemplateRequest(request, path, restContextPath, restServletMapping), response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
         } finally {
-            CONTEXT_TEMPLATE.remove();
+            // for async requests context must stay available after servlet call
+            if (previous != null) {
+                request.setAttribute(CONTEXT_ATTRIBUTE, previous);
+            }
         }
     }
 
@@ -157,6 +182,42 @@ public class TemplateRedirect {
         return CONTEXT_TEMPLATE.get();
     }
 
+    /**
+     * Template context could be resolved for jersey components running outside of request thread (e.g. after
+     * asynchronous response resume). Fallbacks to thread bound context when not found in request properties.
+     *
+     * @param request request context
+     * @return request template context or null if not a template request
+     */
+    public static TemplateContext templateContext(final ContainerRequestContext request) {
+        final Object res = request.getProperty(CONTEXT_ATTRIBUTE);
+        return res == null ? CONTEXT_TEMPLATE.get() : (TemplateContext) res;
+    }
+
+    /**
+     * Bind context to the current thread for the time of action execution (previous thread binding restored after
+     * execution).
+     *
+     * @param context template context
+     * @param action  action to execute with bound context
+     * @param <T>     result type
+     * @return action result
+     * @throws Exception action error
+     */
+    public static <T> T withContext(final TemplateContext context, final Callable<T> action) throws Exception {
+        final TemplateContext previous = CONTEXT_TEMPLATE.get();
+        CONTEXT_TEMPLATE.set(context);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                CONTEXT_TEMPLATE.remove();
+            } else {
+                CONTEXT_TEMPLATE.set(previous);
+            }
+        }
+    }
+
     /**
      * Add the ability to set custom context in tests.
      *
@@ -3,6 +3,7 @@ package ru.vyarus.guicey.gsp.app.rest.support;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -52,17 +53,19 @@ public class DirectTemplateExceptionMapper implements ExtendedExceptionMapper<No
     private jakarta.inject.Provider<UriInfo> info;
     @Inject
     private jakarta.inject.Provider<HttpHeaders> headers;
+    @Inject
+    private jakarta.inject.Provider<ContainerRequestContext> request;
 
     @Override
     public boolean isMappable(final NotFoundException exception) {
         // be sure that it's a template call (at least one view renderer recognized it)
         // and no resource paths were matched
-        return isDirectTemplateRequest() && info.get().getMatchedResources().isEmpty();
+        return isDirectTemplateRequest(request.get()) && info.get().getMatchedResources().isEmpty();
     }
 
     @Override
     public Response toResponse(final NotFoundException exception) {
-        final TemplateContext context = TemplateContext.getInstance();
+        final TemplateContext context = TemplateContext.getInstance(request.get());
         final String path = info.get().getPath().substring(context.getRestPrefix().length() - 1);
         final String fullPath = PathUtils.path(context.getRestSubContext(), path);
         logger.debug("Direct template rendering: '{}'", fullPath);
@@ -72,18 +75,18 @@ public class DirectTemplateExceptionMapper implements ExtendedExceptionMapper<No
             // error page. Relying on ViewMessageBodyWriter (by passing only model in response) would lazily
             // delay rendering to the point where neither exception mapper nor exception application event
             // (TemplateExceptionListener) would not be called
-            res = renderTemplate(path);
+            res = renderTemplate(context, path);
         } catch (TemplateNotFoundException ex) {
             // template not found
             final String message = "Template '" + path + "' not found";
-            TemplateContext.getInstance().redirectError(new NotFoundException(message, ex));
+            context.redirectError(new NotFoundException(message, ex));
             res = Response.status(404, message).build();
         } catch (Throwable ex) {
             // have to handle exception here manually, because jersey will not allow to redirect after exception
             // mapper fail (if exception would be thrown outside from here)
             logger.error("Error rendering direct template ex", ex);
             // either error will be redirected to error page or it's a error page rendering failure
-            TemplateContext.getInstance().redirectError(ex);
+            context.redirectError(ex);
             res = Response.serverError().build();
         }
         return res;
@@ -103,7 +106,7 @@ public class DirectTemplateExceptionMapper implements ExtendedExceptionMapper<No
     @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     protected static boolean canHandle(final RequestEvent event) {
         return event.getType() == RequestEvent.Type.ON_EXCEPTION
-                && isDirectTemplateRequest()
+                && isDirectTemplateRequest(event.getContainerRequest())
                 // no matched paths
                 && event.getUriInfo().getMatchedResources().isEmpty()
                 // exception thrown by jersey when path not found
@@ -112,19 +115,21 @@ public class DirectTemplateExceptionMapper implements ExtendedExceptionMapper<No
                 && event.getExceptionCause() == RequestEvent.ExceptionCause.ORIGINAL;
     }
 
-    private static boolean isDirectTemplateRequest() {
-        final TemplateContext context = TemplateRedirect.templateContext();
+    private static boolean isDirectTemplateRequest(final ContainerRequestContext request) {
+        final TemplateContext context = TemplateRedirect.templateContext(request);
         return context != null && context.isDirectTemplate();
     }
 
-    private Response renderTemplate(final String path) throws Exception {
-        final TemplateView model = ErrorRedirect.hasContextError()
-                ? new ErrorTemplateView(path) : new TemplateView(path);
-        final TemplateContext context = TemplateRedirect.templateContext();
-
+    private Response renderTemplate(final TemplateContext context, final String path) throws Exception {
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        // important to trigger render here to correctly handle exceptions
-        context.getDirectTemplateRenderer().render(model, detectLocale(), out);
+        // context bound explicitly because mapper could be called outside of request thread
+        context.call(() -> {
+            final TemplateView model = ErrorRedirect.hasContextError(context.getRequest())
+                    ? new ErrorTemplateView(path) : new TemplateView(path);
+            // important to trigger render here to correctly handle exceptions
+            context.getDirectTemplateRenderer().render(model, detectLocale(), out);
+            return null;
+        });
 
         return Response.ok(out.toByteArray())
                 // for the majority of cases it would be html, for custom resource templates (css, json, etc.)
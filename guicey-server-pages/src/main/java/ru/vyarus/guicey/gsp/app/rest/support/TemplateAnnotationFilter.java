@@ -38,7 +38,7 @@ public class TemplateAnnotationFilter implements ContainerRequestFilter {
         final Class<?> resourceClass = resourceInfo.getResourceClass();
         final Template template = resourceClass.getAnnotation(Template.class);
         if (template != null) {
-            final TemplateContext context = TemplateContext.getInstance();
+            final TemplateContext context = TemplateContext.getInstance(requestContext);
             // remember resource class to check relative templates
             context.setResourceClass(resourceClass);
             final String tpl = template.value();
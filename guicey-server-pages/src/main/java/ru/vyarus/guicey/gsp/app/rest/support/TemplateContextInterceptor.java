@@ -0,0 +1,45 @@
+package ru.vyarus.guicey.gsp.app.rest.support;
+
+import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
+import ru.vyarus.guicey.gsp.views.template.Template;
+import ru.vyarus.guicey.gsp.views.template.TemplateContext;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+
+/**
+ * Binds template context (stored in request properties) to the view rendering thread. Required for asynchronous
+ * resources (with {@code @Suspended AsyncResponse}) when view is rendered in the thread resuming response
+ * (e.g. freemarker templates loading through {@link TemplateContext} relies on thread-bound context).
+ * For synchronous requests context is already bound and so interceptor does nothing.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Template
+@Singleton
+@Provider
+public class TemplateContextInterceptor implements WriterInterceptor {
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final Object template = context.getProperty(TemplateRedirect.CONTEXT_ATTRIBUTE);
+        if (template == null || TemplateRedirect.templateContext() == template) {
+            context.proceed();
+            return;
+        }
+        try {
+            ((TemplateContext) template).call(() -> {
+                context.proceed();
+                return null;
+            });
+        } catch (IOException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to render view", ex);
+        }
+    }
+}
@@ -33,7 +33,7 @@ public class TemplateErrorResponseFilter implements ContainerResponseFilter {
         if (status >= ErrorRedirect.CODE_400) {
             // redirect direct status return from rest into error page (e.g. when
             // Response.status(400).build() used as response)
-            final TemplateContext context = TemplateRedirect.templateContext();
+            final TemplateContext context = TemplateRedirect.templateContext(requestContext);
             // response could be committed if it was already handled, for example exception handler detect exception
             // and error page was served instead, still this listener will be called and should do nothing
             if (context != null && !context.getResponse().isCommitted()) {
@@ -41,7 +41,7 @@ public class TemplateExceptionListener implements ApplicationEventListener {
     @Override
     public RequestEventListener onRequest(final RequestEvent requestEvent) {
         // apply request audit only under templates processing
-        return TemplateRedirect.templateContext() != null ? listener : null;
+        return TemplateRedirect.templateContext(requestEvent.getContainerRequest()) != null ? listener : null;
     }
 
     /**
@@ -66,7 +66,7 @@ public class TemplateExceptionListener implements ApplicationEventListener {
                 }
 
                 // immediately perform redirect to error page (or do nothing)
-                TemplateContext.getInstance().redirectError(exception);
+                TemplateContext.getInstance(event.getContainerRequest()).redirectError(exception);
             }
         }
     }
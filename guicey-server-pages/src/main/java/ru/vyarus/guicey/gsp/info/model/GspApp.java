@@ -49,6 +49,9 @@ public class GspApp {
     private List<MappedViewPath> viewPaths;
     private List<HiddenViewPath> hiddenViewPaths;
 
+    private long templateCacheHits;
+    private long templateCacheMisses;
+
     /**
      * @return application name
      */
@@ -364,4 +367,32 @@ public class GspApp {
     public void setHiddenViewPaths(final List<HiddenViewPath> hiddenViewPaths) {
         this.hiddenViewPaths = hiddenViewPaths;
     }
+
+    /**
+     * @return count of template resolutions served from resolved templates cache
+     */
+    public long getTemplateCacheHits() {
+        return templateCacheHits;
+    }
+
+    /**
+     * @param templateCacheHits resolved templates cache hits
+     */
+    public void setTemplateCacheHits(final long templateCacheHits) {
+        this.templateCacheHits = templateCacheHits;
+    }
+
+    /**
+     * @return count of actually performed template resolutions (not found in resolved templates cache)
+     */
+    public long getTemplateCacheMisses() {
+        return templateCacheMisses;
+    }
+
+    /**
+     * @param templateCacheMisses resolved templates cache misses
+     */
+    public void setTemplateCacheMisses(final long templateCacheMisses) {
+        this.templateCacheMisses = templateCacheMisses;
+    }
 }
@@ -17,15 +17,24 @@ import jakarta.annotation.Nullable;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
 
 import java.net.URL;
+import java.util.concurrent.Callable;
 
 /**
  * Contains context information for rendered template. The most useful information is original request path:
  * each template rendering request is redirected into resource (rest) and so it's impossible to know
  * original path from the request object (inside rest resource).
  * <p>
- * Template context object is thread-bound and available during template rendering request processing.
+ * Template context object is stored in request attributes and bound to request thread during template rendering
+ * request processing. When view model must be created in a different thread (for example, for asynchronous
+ * resource with {@code @Suspended AsyncResponse}) context must be obtained in request thread and bound to
+ * the target thread with {@link #call(Callable)}:
+ * <pre>{@code
+ * TemplateContext context = TemplateContext.getInstance();
+ * executor.submit(() -> response.resume(context.call(() -> new MyView())));
+ * }</pre>
  *
  * @author Vyacheslav Rusakov
  * @since 25.10.2018
@@ -127,6 +136,32 @@ public class TemplateContext {
                 "No template context found for current thread");
     }
 
+    /**
+     * Context resolution for jersey components: context is resolved from request properties and so
+     * available in any thread (e.g. for asynchronous resources).
+     *
+     * @param request request context
+     * @return request template context
+     */
+    public static TemplateContext getInstance(final ContainerRequestContext request) {
+        return Preconditions.checkNotNull(TemplateRedirect.templateContext(request),
+                "No template context found for current request");
+    }
+
+    /**
+     * Bind context to the current thread for the time of action execution. Required to create view models
+     * (or call any other code, relying on {@link #getInstance()}) outside of request thread. Previous thread binding
+     * (if any) is restored after the call.
+     *
+     * @param action action to execute with bound context
+     * @param <T>    result type
+     * @return action result
+     * @throws Exception action error
+     */
+    public <T> T call(final Callable<T> action) throws Exception {
+        return TemplateRedirect.withContext(this, action);
+    }
+
     /**
      * @return server pages application name
      */
@@ -274,30 +309,21 @@ public class TemplateContext {
         Preconditions.checkNotNull(path,
                 "Template name not specified neither directly in model nor in @Template annotation");
 
-        // search relative path relative to resource class
-        if (!path.startsWith(PathUtils.SLASH) && resourceClass != null) {
-            final String classRelativePath = PathUtils.path(PathUtils.packagePath(resourceClass),
-                    CharMatcher.is('/').trimLeadingFrom(path));
-            if (assets.load(classRelativePath) != null) {
-                logger.debug("Relative template '{}' found relative to {} class: '{}'",
-                        template, resourceClass.getSimpleName(), path);
-                // indicate absolute path
-                path = PathUtils.leadingSlash(classRelativePath);
+        // resolution depends only on template, resource class and rest sub context
+        final String name = path;
+        final String key = (resourceClass == null ? "" : resourceClass.getName()) + ':' + restSubContext + ':' + name;
+        final AssetLookup.ResolvedTemplate res = assets.lookupTemplate(key, () -> {
+            try {
+                return AssetLookup.ResolvedTemplate.found(resolveTemplatePath(name));
+            } catch (TemplateNotFoundException ex) {
+                // negative result cached only when assets cache enabled (opt-in)
+                return AssetLookup.ResolvedTemplate.notFound(ex.getMessage());
             }
+        });
+        if (!res.isFound()) {
+            throw new TemplateNotFoundException(res.getError());
         }
-
-        // search in configured locations
-        if (!path.startsWith(PathUtils.SLASH)) {
-            // recover original calling path to properly resolve asset (inside sub context mapped view)
-            path = PathUtils.path(restSubContext, path);
-            // search in configured folders
-            path = PathUtils.leadingSlash(ResourceLookup.lookupOrFail(path, assets));
-            logger.debug("Relative template '{}' resolved to '{}'", template, path);
-        }
-
-        // check direct absolute path
-        ResourceLookup.existsOrFail(path, assets);
-        return path;
+        return res.getPath();
     }
 
     /**
@@ -341,6 +367,34 @@ public class TemplateContext {
         return !manualErrorHandling && errorRedirect.redirect(getRequest(), getResponse(), wrap(ex));
     }
 
+    private String resolveTemplatePath(final String template) {
+        String path = template;
+        // search relative path relative to resource class
+        if (!path.startsWith(PathUtils.SLASH) && resourceClass != null) {
+            final String classRelativePath = PathUtils.path(PathUtils.packagePath(resourceClass),
+                    CharMatcher.is('/').trimLeadingFrom(path));
+            if (assets.load(classRelativePath) != null) {
+                logger.debug("Relative template '{}' found relative to {} class: '{}'",
+                        template, resourceClass.getSimpleName(), path);
+                // indicate absolute path
+                path = PathUtils.leadingSlash(classRelativePath);
+            }
+        }
+
+        // search in configured locations
+        if (!path.startsWith(PathUtils.SLASH)) {
+            // recover original calling path to properly resolve asset (inside sub context mapped view)
+            path = PathUtils.path(restSubContext, path);
+            // search in configured folders
+            path = PathUtils.leadingSlash(ResourceLookup.lookupOrFail(path, assets));
+            logger.debug("Relative template '{}' resolved to '{}'", template, path);
+        }
+
+        // check direct absolute path
+        ResourceLookup.existsOrFail(path, assets);
+        return path;
+    }
+
     private WebApplicationException wrap(final Throwable exception) {
         Throwable cause = exception;
         // compensate MappableException
@@ -0,0 +1,147 @@
+package ru.vyarus.guicey.gsp
+
+import com.google.common.collect.ImmutableListMultimap
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup
+import spock.lang.Specification
+
+import static ru.vyarus.guicey.gsp.app.asset.AssetLookup.ResolvedTemplate.found
+import static ru.vyarus.guicey.gsp.app.asset.AssetLookup.ResolvedTemplate.notFound
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AssetLookupCacheTest extends Specification {
+
+    static final int CACHE_SIZE = 1000
+
+    CountingLoader loader = new CountingLoader()
+
+    def "Check assets resolution cached"() {
+
+        setup:
+        AssetLookup lookup = create(CACHE_SIZE)
+
+        when: "resolving the same asset multiple times"
+        URL res = lookup.lookupUrl("index.html")
+        lookup.lookupUrl("index.html")
+        lookup.lookupUrl("index.html")
+        then: "classpath probed once"
+        res != null
+        loader.calls == 1
+
+        when: "resolving not existing asset"
+        loader.calls = 0
+        res = lookup.lookupUrl("unknown.html")
+        lookup.lookupUrl("unknown.html")
+        then: "not found cached too"
+        res == null
+        loader.calls == 1
+
+        when: "loading absolute path"
+        loader.calls = 0
+        res = lookup.load("app/index.html")
+        lookup.load("app/index.html")
+        then: "cached"
+        res != null
+        loader.calls == 1
+
+        when: "cache cleared"
+        loader.calls = 0
+        lookup.clearCache()
+        lookup.lookupUrl("index.html")
+        then: "resolved again"
+        loader.calls == 1
+    }
+
+    def "Check disabled cache"() {
+
+        setup:
+        AssetLookup lookup = create(0)
+
+        when: "resolving the same asset multiple times"
+        lookup.lookupUrl("index.html")
+        lookup.lookupUrl("index.html")
+        then: "no caching"
+        loader.calls == 2
+    }
+
+    def "Check templates resolution cached"() {
+
+        setup:
+        AssetLookup lookup = create(CACHE_SIZE)
+        int calls = 0
+
+        when: "resolving the same template multiple times"
+        String res = lookup.lookupTemplate("key") { calls++; found("/app/index.html") }.path
+        lookup.lookupTemplate("key") { calls++; found("/app/index.html") }
+        then: "resolved once"
+        res == "/app/index.html"
+        calls == 1
+        lookup.templateCacheHits == 1
+        lookup.templateCacheMisses == 1
+
+        when: "resolving not existing template"
+        calls = 0
+        AssetLookup.ResolvedTemplate tpl = lookup.lookupTemplate("other") { calls++; notFound("not found") }
+        then: "not found"
+        !tpl.found
+        tpl.error == "not found"
+
+        when: "resolving not existing template again"
+        tpl = lookup.lookupTemplate("other") { calls++; notFound("not found") }
+        then: "cached not found result"
+        !tpl.found
+        tpl.error == "not found"
+        calls == 1
+        lookup.templateCacheHits == 2
+        lookup.templateCacheMisses == 2
+
+        when: "cache cleared"
+        lookup.clearCache()
+        lookup.lookupTemplate("key") { calls++; found("/app/index.html") }
+        then: "resolved again"
+        calls == 2
+        lookup.templateCacheMisses == 3
+    }
+
+    def "Check templates resolution without cache"() {
+
+        setup:
+        AssetLookup lookup = create(0)
+
+        when: "resolving not existing template"
+        AssetLookup.ResolvedTemplate tpl = lookup.lookupTemplate("key") { notFound("not found") }
+        then: "not found"
+        !tpl.found
+
+        when: "template appears"
+        tpl = lookup.lookupTemplate("key") { found("/app/index.html") }
+        then: "found"
+        tpl.found
+        tpl.path == "/app/index.html"
+        lookup.templateCacheHits == 0
+        lookup.templateCacheMisses == 2
+    }
+
+    private AssetLookup create(int cacheSize) {
+        return new AssetLookup("app/",
+                ImmutableListMultimap.of("", "app/"),
+                ImmutableListMultimap.of("app/", loader),
+                cacheSize)
+    }
+
+    static class CountingLoader extends ClassLoader {
+        int calls
+
+        CountingLoader() {
+            super(AssetLookupCacheTest.classLoader)
+        }
+
+        @Override
+        URL getResource(String name) {
+            calls++
+            return super.getResource(name)
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.vyarus.guicey.gsp
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.spa.filter.AssetsCacheFilter
+
+import jakarta.inject.Inject
+import jakarta.ws.rs.core.MediaType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class AssetsCacheTest extends AbstractTest {
+
+    @Inject
+    Environment environment
+
+    def "Check cached assets served"() {
+
+        setup:
+        AssetsCacheFilter filter = environment.getApplicationContext().getServletHandler()
+                .getFilter("appCache").getFilter() as AssetsCacheFilter
+
+        when: "calling asset"
+        def res = client.targetApp('/css/style.css').request().get()
+        then: "served"
+        res.status == 200
+        res.readEntity(String).contains("sample page css")
+        res.mediaType.isCompatible(MediaType.valueOf("text/css"))
+        String etag = res.getHeaderString(HttpHeaders.ETAG)
+        etag != null
+        filter.misses == 1
+
+        when: "calling asset again"
+        res = client.targetApp('/css/style.css').request().get()
+        then: "served from cache"
+        res.status == 200
+        res.readEntity(String).contains("sample page css")
+        filter.hits == 1
+
+        when: "calling with etag"
+        res = client.targetApp('/css/style.css').request().header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "calling asset from attached location"
+        res = client.targetApp('/ext/index.html').request().get()
+        then: "resolved through app assets"
+        res.status == 200
+        filter.misses == 2
+
+        when: "calling not existing asset"
+        res = client.targetApp('/css/other.css').request().get()
+        then: "not found"
+        res.status == 404
+
+        when: "calling template"
+        String page = getHtml("/")
+        then: "template rendered, not cached"
+        page.contains("page: /")
+        filter.misses == 2
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .indexPage("template.ftl")
+                                    .attachAssets("/ext/", "ext")
+                                    .cacheAssetsContent(1_000_000)
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
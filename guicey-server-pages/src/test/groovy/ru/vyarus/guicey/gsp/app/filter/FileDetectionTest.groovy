@@ -0,0 +1,32 @@
+package ru.vyarus.guicey.gsp.app.filter
+
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import spock.lang.Specification
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class FileDetectionTest extends Specification {
+
+    Pattern pattern = Pattern.compile(ServerPagesBundle.FILE_REQUEST_PATTERN)
+
+    def "Check file detection equivalent to default pattern"() {
+
+        expect:
+        ServerPagesFilter.findFileName(uri) == regex(uri)
+
+        where:
+        uri << ['/app/style.css', '/app/', '/app', 'style.css', '/app/sub/template.ftl', '/app/.htaccess',
+                '/app/a..js', '/app/a.b-c', '/app/file.', '/app/dir.v1/page', '/app/file.JS1', '', '/',
+                '/app/файл.css', '/app/file.расш']
+    }
+
+    private String regex(String uri) {
+        Matcher matcher = pattern.matcher(uri)
+        return matcher.find() ? matcher.group(1) : null
+    }
+}
@@ -0,0 +1,88 @@
+package ru.vyarus.guicey.gsp.views
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import ru.vyarus.guicey.gsp.views.template.Template
+import ru.vyarus.guicey.gsp.views.template.TemplateContext
+import ru.vyarus.guicey.gsp.views.template.TemplateView
+
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.PathParam
+import jakarta.ws.rs.container.AsyncResponse
+import jakarta.ws.rs.container.Suspended
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class AsyncTemplateTest extends AbstractTest {
+
+    void cleanupSpec() {
+        AsyncResource.executor.shutdownNow()
+    }
+
+    def "Check async template rendering"() {
+
+        when: "calling async view"
+        String res = getHtml("/async/1")
+        then: "rendered"
+        res.contains("page: /async/1")
+
+        when: "calling async views concurrently"
+        ExecutorService executor = Executors.newFixedThreadPool(10)
+        List<Future<String>> results = (1..100).collect { int i ->
+            executor.submit({ getHtml("/async/$i") } as Callable<String>)
+        }
+        then: "each request rendered with its own context"
+        results.eachWithIndex { Future<String> entry, int i ->
+            assert entry.get().contains("page: /async/${i + 1}")
+        }
+
+        cleanup:
+        executor?.shutdown()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(ServerPagesBundle.app("app", "/app", "/").build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+            environment.jersey().register(AsyncResource)
+        }
+    }
+
+    @Path("/app/async/")
+    @Template("template.ftl")
+    static class AsyncResource {
+
+        static ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        @Path("/{id}")
+        @GET
+        void get(@PathParam("id") String id, @Suspended AsyncResponse response) {
+            // context available only in request thread
+            TemplateContext context = TemplateContext.getInstance()
+            executor.submit({
+                response.resume(context.call({ new TemplateView() } as Callable<TemplateView>))
+            } as Runnable)
+        }
+    }
+}
@@ -47,6 +47,15 @@ class RelativeTemplateResolutionTest extends AbstractTest {
                 "/relative/relative"] as Set
 
         info.getApplication("app").getHiddenViewPaths().isEmpty()
+
+        when: "template resolved again"
+        long hits = info.getApplication("app").getTemplateCacheHits()
+        long misses = info.getApplication("app").getTemplateCacheMisses()
+        res = getHtml("/relative/relative")
+        then: "resolved from cache"
+        res.contains("root name: app")
+        info.getApplication("app").getTemplateCacheHits() == hits + 1
+        info.getApplication("app").getTemplateCacheMisses() == misses
     }
 
     static class App extends Application<Configuration> {
@@ -56,6 +65,7 @@ class RelativeTemplateResolutionTest extends AbstractTest {
             bootstrap.addBundle(GuiceBundle.builder()
                     .bundles(
                             ServerPagesBundle.app("app", "/app", "/")
+                                    .assetsCache(1000)
                                     .build())
                     .build())
         }
@@ -1,6 +1,7 @@
 package ru.vyarus.guicey.spa;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.MoreObjects;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.servlets.assets.AssetServlet;
@@ -11,6 +12,8 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+import ru.vyarus.guicey.spa.filter.AssetsCacheFilter;
+import ru.vyarus.guicey.spa.filter.SpaAssetsIndex;
 import ru.vyarus.guicey.spa.filter.SpaBundleState;
 import ru.vyarus.guicey.spa.filter.SpaRoutingFilter;
 
@@ -55,6 +58,8 @@ public class SpaBundle implements GuiceyBundle {
     private String uriPath;
     private String indexFile = "index.html";
     private String noRedirectRegex = DEFAULT_PATTERN;
+    private boolean assetsIndex;
+    private long assetsContentCache;
 
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
@@ -80,8 +85,20 @@ public class SpaBundle implements GuiceyBundle {
         }
 
         final EnumSet<DispatcherType> types = EnumSet.of(DispatcherType.REQUEST);
-        context.addFilter(assetName + "Routing", new SpaRoutingFilter(uriPath, noRedirectRegex))
+        final SpaAssetsIndex index = assetsIndex ? SpaAssetsIndex.build(resourcePath, indexFile) : null;
+        context.addFilter(assetName + "Routing", new SpaRoutingFilter(uriPath, noRedirectRegex, index, indexFile))
                 .addMappingForServletNames(types, false, assetName);
+        if (index != null) {
+            logger.debug("SPA '{}' assets index built: {} paths", assetName, index.size());
+        }
+        if (assetsContentCache > 0) {
+            // the same loader as used by assets servlet
+            final ClassLoader loader = MoreObjects.firstNonNull(
+                    Thread.currentThread().getContextClassLoader(), SpaBundle.class.getClassLoader());
+            context.addFilter(assetName + "Cache", new AssetsCacheFilter(
+                            path -> loader.getResource(resourcePath + path), assetsContentCache))
+                    .addMappingForServletNames(types, false, assetName);
+        }
 
         logger.info("SPA '{}' for source '{}' registered on uri '{}' in {} context",
                 assetName, resourcePath, uriPath + '*', mainContext ? "main" : "admin");
@@ -164,6 +181,36 @@ public class SpaBundle implements GuiceyBundle {
             return this;
         }
 
+        /**
+         * Enables startup assets index: application assets are indexed on startup in order to recognize SPA routes
+         * without assets lookup (index page is also cached and served directly for SPA routes). Index is disabled
+         * by default because assets, added after startup, would be treated as SPA routes and changed index page
+         * would not be visible until restart (so it should not be used when assets could change at runtime,
+         * e.g. in development).
+         *
+         * @return builder instance
+         * @see ru.vyarus.guicey.spa.filter.SpaAssetsIndex
+         */
+        public Builder assetsIndex() {
+            bundle.assetsIndex = true;
+            return this;
+        }
+
+        /**
+         * Enables in-memory assets cache: assets content is loaded on first request and served from memory
+         * (compressible assets are also stored in gzipped form). Least recently used assets are evicted when
+         * total size exceeds the limit. Cache is disabled by default.
+         *
+         * @param maxSize maximum cache size in bytes
+         * @return builder instance
+         * @see AssetsCacheFilter
+         */
+        public Builder cacheAssetsContent(final long maxSize) {
+            checkArgument(maxSize > 0, "Cache size must be positive");
+            bundle.assetsContentCache = maxSize;
+            return this;
+        }
+
         /**
          * @return configured dropwizard bundle instance
          */
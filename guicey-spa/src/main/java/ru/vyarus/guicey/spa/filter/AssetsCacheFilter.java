@@ -0,0 +1,325 @@
+package ru.vyarus.guicey.spa.filter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory assets cache. Filter must be mapped to assets servlet: found assets are loaded into memory (on first
+ * request) and served directly (without classpath resource reading on each request). Compressible assets are
+ * stored in both raw and gzipped form (so compression is also not performed on each request).
+ * <p>
+ * Cached assets are served with strong ETag (the same as computed by dropwizard assets servlet) and Last-Modified
+ * headers (conditional requests are supported). Directories (index pages), ranged requests and not found assets
+ * are always processed by assets servlet.
+ * <p>
+ * Cache size is limited by total size of cached content (raw and compressed): the least recently used assets
+ * are evicted. Large files (more than 1/10 of cache size) are not cached.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AssetsCacheFilter implements Filter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetsCacheFilter.class);
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String CHARSET = ";charset=utf-8";
+    private static final int MAX_FILE_PART = 10;
+    private static final long MILLIS_IN_SECOND = 1000;
+
+    private final Function<String, URL> resolver;
+    private final long maxFileSize;
+    private final Cache<String, CachedAsset> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private ServletContext context;
+
+    /**
+     * Create cache filter.
+     *
+     * @param resolver assets resolver (path relative to application root to resource url or null if not found)
+     * @param maxSize  maximum cache size (bytes)
+     */
+    public AssetsCacheFilter(final Function<String, URL> resolver, final long maxSize) {
+        this.resolver = resolver;
+        this.maxFileSize = maxSize / MAX_FILE_PART;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String key, CachedAsset value) -> value.size())
+                .build();
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        context = filterConfig.getServletContext();
+    }
+
+    @Override
+    public void doFilter(final ServletRequest servletRequest,
+                         final ServletResponse servletResponse,
+                         final FilterChain chain) throws IOException, ServletException {
+        final HttpServletRequest req = (HttpServletRequest) servletRequest;
+        final HttpServletResponse resp = (HttpServletResponse) servletResponse;
+        final CachedAsset asset = isCacheable(req) ? getAsset(req.getPathInfo().substring(1)) : null;
+        if (asset == null) {
+            chain.doFilter(req, resp);
+        } else {
+            serve(asset, req, resp);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return count of requests served from cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return count of loaded assets
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return total size of cached assets (bytes)
+     */
+    public long getCachedSize() {
+        return cache.asMap().values().stream().mapToLong(CachedAsset::size).sum();
+    }
+
+    /**
+     * Clear assets cache (required only if resources could change at runtime).
+     */
+    public void clearCache() {
+        cache.invalidateAll();
+    }
+
+    private boolean isCacheable(final HttpServletRequest req) {
+        final String method = req.getMethod();
+        final String path = req.getPathInfo();
+        // directories, encoded paths and partial requests are handled by servlet
+        return (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && path != null && path.length() > 1 && !path.endsWith("/") && path.indexOf('%') < 0
+                && req.getHeader("Range") == null;
+    }
+
+    private CachedAsset getAsset(final String path) throws IOException {
+        CachedAsset res = cache.getIfPresent(path);
+        if (res == null) {
+            final URL url = resolver.apply(path);
+            if (url == null || isDirectory(url)) {
+                return null;
+            }
+            res = load(path, url);
+            if (res == null) {
+                return null;
+            }
+            misses.incrementAndGet();
+            cache.put(path, res);
+        } else {
+            hits.incrementAndGet();
+        }
+        return res;
+    }
+
+    private CachedAsset load(final String path, final URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+        if (connection.getContentLengthLong() > maxFileSize) {
+            return null;
+        }
+        final byte[] content;
+        try (InputStream in = connection.getInputStream()) {
+            content = ByteStreams.toByteArray(in);
+        }
+        if (content.length > maxFileSize) {
+            return null;
+        }
+        final String type = contentType(path);
+        final byte[] gzip = isCompressible(type) ? gzip(content) : null;
+        LOGGER.debug("Asset '{}' cached ({} bytes{})", path, content.length,
+                gzip == null ? "" : ", gzipped " + gzip.length);
+        return new CachedAsset(content, gzip, type,
+                // http dates have second precision
+                connection.getLastModified() / MILLIS_IN_SECOND * MILLIS_IN_SECOND);
+    }
+
+    private void serve(final CachedAsset asset,
+                       final HttpServletRequest req,
+                       final HttpServletResponse resp) throws IOException {
+        resp.setHeader(HttpHeaders.ETAG, asset.etag);
+        if (asset.lastModified > 0) {
+            resp.setDateHeader(HttpHeaders.LAST_MODIFIED, asset.lastModified);
+        }
+        if (isNotModified(asset, req)) {
+            resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        resp.setContentType(asset.type);
+        byte[] content = asset.content;
+        if (asset.gzip != null) {
+            resp.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (isGzipAccepted(req.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                resp.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                content = asset.gzip;
+            }
+        }
+        resp.setContentLength(content.length);
+        if (!HttpMethod.HEAD.equals(req.getMethod())) {
+            resp.getOutputStream().write(content);
+        }
+    }
+
+    /**
+     * Checks accepted encodings (with quality values): gzip is accepted if declared explicitly (or with "*")
+     * with non zero quality.
+     *
+     * @param header accept-encoding header value (may be null)
+     * @return true if gzipped content could be sent
+     */
+    private boolean isGzipAccepted(final String header) {
+        if (header == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean any = null;
+        for (String token : header.split(",")) {
+            final String[] parts = token.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            final boolean accepted = quality(parts) > 0;
+            if (GZIP.equals(coding) || X_GZIP.equals(coding)) {
+                gzip = accepted;
+            } else if ("*".equals(coding)) {
+                any = accepted;
+            }
+        }
+        return gzip != null ? gzip : any != null && any;
+    }
+
+    private double quality(final String[] parts) {
+        double res = 1;
+        for (int i = 1; i < parts.length; i++) {
+            final String param = parts[i].trim();
+            if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    res = Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    // invalid quality treated as not acceptable
+                    res = 0;
+                }
+            }
+        }
+        return res;
+    }
+
+    private boolean isNotModified(final CachedAsset asset, final HttpServletRequest req) {
+        final String etag = req.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (etag != null) {
+            return asset.etag.equals(etag);
+        }
+        final long since = req.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        return since > 0 && asset.lastModified > 0 && asset.lastModified <= since;
+    }
+
+    private String contentType(final String path) {
+        String type = context == null ? null : context.getMimeType(path);
+        if (type == null) {
+            type = "application/octet-stream";
+        } else if (isText(type)) {
+            // the same default charset as in assets servlet
+            type += CHARSET;
+        }
+        return type;
+    }
+
+    private boolean isText(final String type) {
+        return type.startsWith("text/") || type.contains("javascript");
+    }
+
+    private boolean isCompressible(final String type) {
+        final String mime = type.toLowerCase(Locale.ROOT);
+        return isText(mime) || mime.contains("json") || mime.contains("xml");
+    }
+
+    private byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        // no sense to keep not effective compression result
+        return out.size() < content.length ? out.toByteArray() : null;
+    }
+
+    private boolean isDirectory(final URL url) throws IOException {
+        boolean res = false;
+        if ("file".equals(url.getProtocol())) {
+            try {
+                res = Files.isDirectory(Paths.get(url.toURI()));
+            } catch (URISyntaxException ex) {
+                throw new IOException("Invalid asset url: " + url, ex);
+            }
+        } else if ("jar".equals(url.getProtocol())) {
+            // jar file is cached by connection
+            res = ((JarURLConnection) url.openConnection()).getJarEntry().isDirectory();
+        }
+        return res;
+    }
+
+    /**
+     * Cached asset content.
+     */
+    private static class CachedAsset {
+        private final byte[] content;
+        private final byte[] gzip;
+        private final String type;
+        private final long lastModified;
+        private final String etag;
+
+        CachedAsset(final byte[] content, final byte[] gzip, final String type, final long lastModified) {
+            this.content = content;
+            this.gzip = gzip;
+            this.type = type;
+            this.lastModified = lastModified;
+            // the same etag as computed by dropwizard assets servlet
+            this.etag = '"' + Hashing.murmur3_128().hashBytes(content).toString() + '"';
+        }
+
+        int size() {
+            return content.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package ru.vyarus.guicey.spa.filter;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Index of SPA application assets, built on startup. Used to recognize SPA routes without delegating to the assets
+ * servlet: if requested path is not a known asset (or directory), it could be immediately served with
+ * the pre-loaded index page (no classpath lookup and no error handling with forward).
+ * <p>
+ * Only file system directories and jars are supported as resource locations. When assets location could not be
+ * indexed (or index page not found), index is not created and routing works as usual.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class SpaAssetsIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpaAssetsIndex.class);
+    private static final String SLASH = "/";
+
+    private final Set<String> paths;
+    private final byte[] index;
+    private final String etag;
+
+    private SpaAssetsIndex(final Set<String> paths, final byte[] index) {
+        this.paths = paths;
+        this.index = index;
+        // the same etag as computed by dropwizard assets servlet
+        this.etag = '"' + Hashing.murmur3_128().hashBytes(index).toString() + '"';
+    }
+
+    /**
+     * Build assets index.
+     *
+     * @param resourcePath assets classpath location (without leading slash, with trailing slash)
+     * @param indexFile    index file name
+     * @return assets index or null if index could not be built
+     */
+    public static SpaAssetsIndex build(final String resourcePath, final String indexFile) {
+        final ClassLoader loader = loader();
+        try {
+            final URL indexUrl = loader.getResource(resourcePath + indexFile);
+            if (indexUrl == null) {
+                return null;
+            }
+            final Set<String> paths = new HashSet<>();
+            final Enumeration<URL> roots = loader.getResources(resourcePath);
+            while (roots.hasMoreElements()) {
+                if (!collect(roots.nextElement(), resourcePath, paths)) {
+                    return null;
+                }
+            }
+            return new SpaAssetsIndex(ImmutableSet.copyOf(paths), Resources.toByteArray(indexUrl));
+        } catch (IOException | URISyntaxException ex) {
+            LOGGER.warn("Failed to index SPA assets in " + resourcePath, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Directories are also considered as existing assets (as assets servlet could serve index file from
+     * directory).
+     *
+     * @param path path relative to assets location (leading slash is ignored)
+     * @return true if path is known asset or directory, false otherwise
+     */
+    public boolean isAsset(final String path) {
+        String res = path.startsWith(SLASH) ? path.substring(1) : path;
+        if (res.endsWith(SLASH)) {
+            res = res.substring(0, res.length() - 1);
+        }
+        return res.isEmpty() || paths.contains(res);
+    }
+
+    /**
+     * @return index page content
+     */
+    public byte[] getIndex() {
+        return index;
+    }
+
+    /**
+     * @return index page etag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @return count of indexed paths (files and directories)
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    private static boolean collect(final URL root, final String resourcePath, final Set<String> paths)
+            throws IOException, URISyntaxException {
+        boolean res = true;
+        if ("file".equals(root.getProtocol())) {
+            final Path dir = Paths.get(root.toURI());
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.filter(it -> !it.equals(dir))
+                        .forEach(it -> paths.add(dir.relativize(it).toString().replace('\\', '/')));
+            }
+        } else if ("jar".equals(root.getProtocol())) {
+            final URLConnection connection = root.openConnection();
+            connection.setUseCaches(false);
+            try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final String name = entries.nextElement().getName();
+                    if (name.startsWith(resourcePath) && name.length() > resourcePath.length()) {
+                        addWithParents(name.substring(resourcePath.length()), paths);
+                    }
+                }
+            }
+        } else {
+            LOGGER.debug("SPA assets location {} can't be indexed", root);
+            res = false;
+        }
+        return res;
+    }
+
+    private static void addWithParents(final String path, final Set<String> paths) {
+        String res = path.endsWith(SLASH) ? path.substring(0, path.length() - 1) : path;
+        // jar may not contain directory entries
+        while (!res.isEmpty() && paths.add(res)) {
+            final int idx = res.lastIndexOf('/');
+            res = idx > 0 ? res.substring(0, idx) : "";
+        }
+    }
+
+    private static ClassLoader loader() {
+        // the same loader as used by assets servlet
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context == null ? SpaAssetsIndex.class.getClassLoader() : context;
+    }
+}
@@ -8,6 +8,8 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
 
 import java.io.IOException;
 import java.util.regex.Pattern;
@@ -21,6 +23,10 @@ import java.util.regex.Pattern;
  * In order to route, filter checks request accept header: if it's compatible with "text/html" - routing is performed.
  * If not, 404 error sent. Also, regex pattern is used to prevent routing (for example, for html templates).
  * This is important for all other assets, which absence must be indicated.
+ * <p>
+ * When assets index ({@link SpaAssetsIndex}) available, not existing paths are recognized without calling
+ * servlet and SPA routes are served directly with the cached index page content (no classpath lookup and
+ * no forward).
  *
  * @author Vyacheslav Rusakov
  * @since 02.04.2017
@@ -29,6 +35,9 @@ public class SpaRoutingFilter implements Filter {
 
     private final String target;
     private final Pattern noRedirect;
+    private final SpaAssetsIndex index;
+    private final String indexFile;
+    private String indexType;
 
     /**
      * Create SPA filter.
@@ -37,13 +46,34 @@ public class SpaRoutingFilter implements Filter {
      * @param noRedirectRegex non-SPA routes detection regex
      */
     public SpaRoutingFilter(final String target, final String noRedirectRegex) {
+        this(target, noRedirectRegex, null, null);
+    }
+
+    /**
+     * Create SPA filter with assets index.
+     *
+     * @param target          application root
+     * @param noRedirectRegex non-SPA routes detection regex
+     * @param index           assets index (may be null)
+     * @param indexFile       index file name (used for content type detection)
+     */
+    public SpaRoutingFilter(final String target,
+                            final String noRedirectRegex,
+                            final SpaAssetsIndex index,
+                            final String indexFile) {
         this.target = target;
-        noRedirect = Pattern.compile(noRedirectRegex);
+        this.noRedirect = Pattern.compile(noRedirectRegex);
+        this.index = index;
+        this.indexFile = indexFile;
     }
 
     @Override
     public void init(final FilterConfig filterConfig) throws ServletException {
-        // not needed
+        if (index != null) {
+            final String type = filterConfig.getServletContext().getMimeType(indexFile);
+            // the same charset as used in assets servlet
+            indexType = (type == null ? "text/html" : type) + ";charset=utf-8";
+        }
     }
 
     @Override
@@ -71,6 +101,12 @@ public class SpaRoutingFilter implements Filter {
     private void checkRedirect(final HttpServletRequest req,
                                final HttpServletResponse resp,
                                final FilterChain chain) throws IOException, ServletException {
+        if (isKnownRoute(req) && SpaUtils.isSpaRoute(req, noRedirect)) {
+            // not existing asset: serve index page directly
+            serveIndex(req, resp);
+            return;
+        }
+
         // wrap request to intercept errors
         chain.doFilter(req, resp);
 
@@ -86,4 +122,31 @@ public class SpaRoutingFilter implements Filter {
             SpaUtils.doRedirect(req, resp, target);
         }
     }
+
+    /**
+     * @param req request
+     * @return true if request path is not an asset (known from assets index)
+     */
+    private boolean isKnownRoute(final HttpServletRequest req) {
+        final String method = req.getMethod();
+        final String path = req.getPathInfo();
+        // encoded paths are not checked to avoid decoding differences with assets servlet
+        return index != null && path != null && path.indexOf('%') < 0
+                && (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && !index.isAsset(path);
+    }
+
+    private void serveIndex(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+        SpaUtils.noCache(resp);
+        resp.setHeader(HttpHeaders.ETAG, index.getEtag());
+        if (index.getEtag().equals(req.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        resp.setContentType(indexType);
+        resp.setContentLength(index.getIndex().length);
+        if (!HttpMethod.HEAD.equals(req.getMethod())) {
+            resp.getOutputStream().write(index.getIndex());
+        }
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -47,7 +48,8 @@ public final class SpaUtils {
      */
     public static boolean isHtmlRequest(final HttpServletRequest req) {
         final String accept = req.getHeader(HttpHeaders.ACCEPT);
-        if (Strings.emptyToNull(accept) != null) {
+        // fast check to avoid types parsing for obviously not html requests
+        if (Strings.emptyToNull(accept) != null && accept.toLowerCase(Locale.ROOT).contains(MediaType.TEXT_HTML)) {
             // accept header could contain multiple mime types
             for (String type : accept.split(",")) {
                 try {
@@ -0,0 +1,190 @@
+package ru.vyarus.guicey.spa
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import jakarta.servlet.FilterChain
+import jakarta.servlet.FilterConfig
+import jakarta.servlet.ServletContext
+import jakarta.servlet.ServletOutputStream
+import jakarta.servlet.WriteListener
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.spa.filter.AssetsCacheFilter
+
+import jakarta.ws.rs.core.MediaType
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.GZIPInputStream
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class AssetsCacheTest extends AbstractTest {
+
+    def "Check cached assets served"() {
+
+        when: "calling asset"
+        def res = client.targetApp('/css/some.css').request().get()
+        then: "served"
+        res.status == 200
+        res.readEntity(String) == "/* styles */"
+        res.mediaType.isCompatible(MediaType.valueOf("text/css"))
+        String etag = res.getHeaderString(HttpHeaders.ETAG)
+        etag != null
+        res.getHeaderString(HttpHeaders.LAST_MODIFIED) != null
+
+        when: "calling with etag"
+        res = client.targetApp('/css/some.css').request().header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "calling not existing asset"
+        res = client.targetApp('/css/other.css').request().get()
+        then: "not found"
+        res.status == 404
+
+        when: "calling spa route"
+        res = client.targetApp('/some/route').request(MediaType.TEXT_HTML).get()
+        then: "index"
+        res.status == 200
+        res.readEntity(String).contains("Sample page")
+    }
+
+    def "Check cache filter"() {
+
+        setup:
+        Path file = Files.createTempFile("asset", ".css")
+        file.text = "body { color: red; }\n" * 100
+        int resolved = 0
+        AssetsCacheFilter filter = new AssetsCacheFilter({ String path ->
+            resolved++
+            path == "style.css" ? file.toUri().toURL() : null
+        }, 100_000)
+        filter.init(Mock(FilterConfig) {
+            getServletContext() >> Mock(ServletContext) { getMimeType(_) >> "text/css" }
+        })
+        FilterChain chain = Mock(FilterChain)
+
+        when: "requesting asset"
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        filter.doFilter(request("/style.css", null), response(out, [:]), chain)
+        then: "served from memory"
+        0 * chain.doFilter(_, _)
+        out.toString() == file.text
+
+        when: "requesting gzipped asset"
+        out = new ByteArrayOutputStream()
+        Map<String, String> headers = [:]
+        filter.doFilter(request("/style.css", "gzip, deflate"), response(out, headers), chain)
+        then: "served compressed"
+        0 * chain.doFilter(_, _)
+        headers[HttpHeaders.CONTENT_ENCODING] == "gzip"
+        new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).text == file.text
+        resolved == 1
+        filter.hits == 1
+        filter.misses == 1
+        filter.cachedSize > file.text.length()
+
+        when: "gzip disabled with zero quality"
+        out = new ByteArrayOutputStream()
+        headers = [:]
+        filter.doFilter(request("/style.css", "deflate, gzip;q=0"), response(out, headers), chain)
+        then: "served raw"
+        headers[HttpHeaders.CONTENT_ENCODING] == null
+        out.toString() == file.text
+
+        when: "gzip excluded from wildcard"
+        out = new ByteArrayOutputStream()
+        headers = [:]
+        filter.doFilter(request("/style.css", "*;q=0.5, gzip;q=0.0"), response(out, headers), chain)
+        then: "served raw"
+        headers[HttpHeaders.CONTENT_ENCODING] == null
+        out.toString() == file.text
+
+        when: "gzip accepted with quality"
+        out = new ByteArrayOutputStream()
+        headers = [:]
+        filter.doFilter(request("/style.css", "br;q=1.0, GZIP;q=0.8"), response(out, headers), chain)
+        then: "served compressed"
+        headers[HttpHeaders.CONTENT_ENCODING] == "gzip"
+
+        when: "gzip accepted with wildcard"
+        out = new ByteArrayOutputStream()
+        headers = [:]
+        filter.doFilter(request("/style.css", "*"), response(out, headers), chain)
+        then: "served compressed"
+        headers[HttpHeaders.CONTENT_ENCODING] == "gzip"
+
+        when: "unknown encoding only"
+        out = new ByteArrayOutputStream()
+        headers = [:]
+        filter.doFilter(request("/style.css", "gzipx, identity"), response(out, headers), chain)
+        then: "served raw"
+        headers[HttpHeaders.CONTENT_ENCODING] == null
+        out.toString() == file.text
+
+        when: "requesting unknown asset"
+        filter.doFilter(request("/other.css", null), response(out, [:]), chain)
+        then: "delegated to servlet"
+        1 * chain.doFilter(_, _)
+
+        when: "requesting directory"
+        filter.doFilter(request("/dir/", null), response(out, [:]), chain)
+        then: "delegated to servlet"
+        1 * chain.doFilter(_, _)
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    private HttpServletRequest request(String path, String encoding) {
+        return Mock(HttpServletRequest) {
+            getMethod() >> "GET"
+            getPathInfo() >> path
+            getHeader(HttpHeaders.ACCEPT_ENCODING) >> encoding
+            getDateHeader(_) >> -1
+        }
+    }
+
+    private HttpServletResponse response(ByteArrayOutputStream out, Map<String, String> headers) {
+        return Mock(HttpServletResponse) {
+            setHeader(_, _) >> { String name, String value -> headers[name] = value }
+            getOutputStream() >> new ServletOutputStream() {
+                @Override
+                boolean isReady() {
+                    return true
+                }
+
+                @Override
+                void setWriteListener(WriteListener writeListener) {
+                }
+
+                @Override
+                void write(int b) throws IOException {
+                    out.write(b)
+                }
+            }
+        }
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(SpaBundle.app("app", "app", "/").cacheAssetsContent(1_000_000).build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ru.vyarus.guicey.spa
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.spa.filter.SpaAssetsIndex
+
+import jakarta.ws.rs.core.MediaType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class AssetsIndexTest extends AbstractTest {
+
+    def "Check assets index"() {
+
+        when: "building index"
+        SpaAssetsIndex index = SpaAssetsIndex.build("app/", "index.html")
+        then: "assets indexed"
+        index.isAsset("/index.html")
+        index.isAsset("css/some.css")
+        index.isAsset("/css/")
+        index.isAsset("/css")
+        index.isAsset("/")
+        !index.isAsset("/some/route")
+        !index.isAsset("/css/other.css")
+        new String(index.index).contains("Sample page")
+
+        and: "no index for unknown location"
+        SpaAssetsIndex.build("unknown/", "index.html") == null
+    }
+
+    def "Check route served from index"() {
+
+        when: "calling route"
+        def res = client.targetApp('/some/route').request(MediaType.TEXT_HTML).get()
+        then: "index served"
+        res.status == 200
+        res.readEntity(String).contains("Sample page")
+        res.getHeaderString(HttpHeaders.CACHE_CONTROL) == 'must-revalidate,no-cache,no-store'
+        res.mediaType.isCompatible(MediaType.TEXT_HTML_TYPE)
+        String etag = res.getHeaderString(HttpHeaders.ETAG)
+        etag != null
+
+        when: "calling with etag"
+        res = client.targetApp('/other/route').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "calling not existing asset"
+        res = client.targetApp('/css/other.css').request(MediaType.TEXT_HTML).get()
+        then: "not found"
+        res.status == 404
+
+        when: "calling existing asset"
+        res = client.targetApp('/css/some.css').request().get()
+        then: "served"
+        res.status == 200
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(SpaBundle.app("app", "app", "/").assetsIndex().build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}